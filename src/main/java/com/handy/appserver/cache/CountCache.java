@@ -0,0 +1,99 @@
+package com.handy.appserver.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 API 전체 건수(COUNT) 캐시
+ * - 요청마다 COUNT(*)를 실행하지 않고 TTL 동안 캐시된 값을 사용 (근사값)
+ * - TTL이 지나면 기존 값을 바로 반환하고 백그라운드에서 한 번만 다시 계산
+ * - 마지막 페이지를 조회하면 정확한 건수를 알 수 있으므로 그 값으로 보정
+ * - max-entries를 넘으면 가장 오래 조회되지 않은 키부터 제거하고, max-stale-seconds 동안 갱신되지 않은 값은 버림
+ */
+@Slf4j
+@Component
+public class CountCache {
+
+    private final Executor executor;
+    private final long ttlMillis;
+    private final LruCache<String, Entry> entries;
+
+    public CountCache(@Qualifier("cacheRefreshExecutor") Executor executor,
+                      @Value("${cache.count.ttl-seconds:60}") long ttlSeconds,
+                      @Value("${cache.count.max-entries:10000}") int maxEntries,
+                      @Value("${cache.count.max-stale-seconds:600}") long maxStaleSeconds) {
+        this.executor = executor;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LruCache<>(maxEntries, Math.max(ttlSeconds, maxStaleSeconds));
+    }
+
+    public long get(String key, LongSupplier counter) {
+        Entry entry = entries.get(key, k -> new Entry(counter.getAsLong(), System.currentTimeMillis()));
+        if (System.currentTimeMillis() - entry.loadedAt > ttlMillis && entry.refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        put(key, counter.getAsLong());
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to refresh count cache - key: {}", key, e);
+                        entry.refreshing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                entry.refreshing.set(false);
+            }
+        }
+        return entry.value;
+    }
+
+    /**
+     * COUNT 없이 조회한 Slice를 캐시된 전체 건수와 함께 Page로 변환
+     * 캐시 값이 실제보다 작더라도 hasNext가 틀리지 않도록 현재까지 확인된 건수 이상으로 보정
+     */
+    public <T> Page<T> toPage(Slice<T> slice, String key, LongSupplier counter) {
+        Pageable pageable = slice.getPageable();
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        long seen = offset + slice.getNumberOfElements();
+
+        long total;
+        if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+            total = seen;
+            put(key, seen);
+        } else if (slice.hasNext()) {
+            total = Math.max(get(key, counter), seen + 1);
+        } else {
+            total = get(key, counter);
+        }
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    public void evict(String key) {
+        entries.evict(key);
+    }
+
+    private void put(String key, long value) {
+        entries.put(key, new Entry(value, System.currentTimeMillis()));
+    }
+
+    private static class Entry {
+        private final long value;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Entry(long value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.handy.appserver.cache;
+
+import com.handy.appserver.dto.ProductListResponse;
+import com.handy.appserver.dto.ProductListRow;
+import com.handy.appserver.entity.product.ProductSortType;
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 홈 피드(/api/products/list) 앞쪽 페이지 저장소
+ * - 정렬 기준별(추천순 포함)로 활성 상품 상위 maxItems건을 미리 조회해 두고 DB 없이 페이지를 잘라서 반환
+ * - 각 정렬의 목록은 항상 "전체 정렬 결과의 앞부분"만 보관하므로, 범위를 벗어나는 페이지는 호출 측이 DB로 조회
+ * - 상품 변경은 커밋 이후 ID만 모아 두고 cacheRefreshExecutor에서 한 번에 조회해 위치를 갱신 (일괄 등록 시 이벤트마다 조회하지 않음)
+ * - 주기적으로 전체를 다시 채우며, 재구축은 한 번에 하나만 실행
+ */
+@Slf4j
+@Component
+public class HomeFeedStore {
+
+    private static final List<ProductSortType> SORT_TYPES = List.of(
+            ProductSortType.CREATED_AT_DESC,
+            ProductSortType.UPDATED_AT_DESC,
+            ProductSortType.PRICE_ASC,
+            ProductSortType.PRICE_DESC,
+            ProductSortType.RECOMMEND
+    );
+
+    // 변경 반영 시 한 번에 조회할 상품 수 (IN 절 크기 제한)
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor refreshExecutor;
+    private final int maxItems;
+
+    private final Object lock = new Object();
+    private final Object rebuildLock = new Object();
+    private Map<ProductSortType, Window> windows = new EnumMap<>(ProductSortType.class);
+
+    // 진행 중인 재구축에 반영된 변경 (재구축 결과 교체 후 재적용, 재구축이 직렬화되므로 한 번에 하나)
+    private Map<Long, ProductListResponse> pendingDuringRebuild;
+
+    // 아직 반영하지 않은 변경 상품 ID
+    private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public HomeFeedStore(ProductRepository productRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Qualifier("cacheRefreshExecutor") Executor refreshExecutor,
+                         @Value("${feed.home.max-items:200}") int maxItems) {
+        this.productRepository = productRepository;
+        this.refreshExecutor = refreshExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxItems = maxItems;
+    }
+
+    @Async("indexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${feed.home.refresh-interval-ms:600000}",
+               fixedDelayString = "${feed.home.refresh-interval-ms:600000}")
+    public void rebuild() {
+        // 주기 재구축과 추천 점수 갱신 후 재구축이 겹치지 않도록 직렬화
+        synchronized (rebuildLock) {
+            rebuildExclusively();
+        }
+    }
+
+    private void rebuildExclusively() {
+        long started = System.currentTimeMillis();
+        Map<Long, ProductListResponse> pending = new HashMap<>();
+        synchronized (lock) {
+            pendingDuringRebuild = pending;
+        }
+
+        Map<ProductSortType, Window> newWindows = new EnumMap<>(ProductSortType.class);
+        try {
+            for (ProductSortType sortType : SORT_TYPES) {
+                List<ProductListResponse> items = transactionTemplate.execute(status -> load(sortType));
+                newWindows.put(sortType, new Window(items, items.size() < maxItems));
+            }
+        } catch (RuntimeException e) {
+            log.error("Home feed rebuild failed", e);
+            synchronized (lock) {
+                pendingDuringRebuild = null;
+            }
+            return;
+        }
+
+        synchronized (lock) {
+            windows = newWindows;
+            pending.forEach(this::applyLocked);
+            pendingDuringRebuild = null;
+        }
+        log.debug("Home feed rebuilt - sorts: {}, max items: {}, took {}ms",
+                newWindows.size(), maxItems, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        changedIds.add(event.getProductId());
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                refreshExecutor.execute(this::flushChanges);
+            } catch (RejectedExecutionException e) {
+                // 남은 ID는 다음 이벤트나 주기 재구축에서 반영
+                flushScheduled.set(false);
+                log.warn("Home feed refresh rejected - pending: {}", changedIds.size());
+            }
+        }
+    }
+
+    // 모인 변경 상품을 한 번에 조회해 반영
+    private void flushChanges() {
+        // 조회 중에 들어온 변경은 다음 반영에서 처리하도록 먼저 해제
+        flushScheduled.set(false);
+        List<Long> ids = new ArrayList<>(changedIds);
+        changedIds.removeAll(ids);
+        if (ids.isEmpty()) {
+            return;
+        }
+        Map<Long, ProductListResponse> loaded;
+        try {
+            loaded = transactionTemplate.execute(status -> loadActive(ids));
+        } catch (RuntimeException e) {
+            log.error("Home feed refresh failed - products: {}", ids.size(), e);
+            return;
+        }
+        synchronized (lock) {
+            for (Long id : ids) {
+                ProductListResponse product = loaded.get(id);
+                applyLocked(id, product);
+                if (pendingDuringRebuild != null) {
+                    pendingDuringRebuild.put(id, product);
+                }
+            }
+        }
+    }
+
+    /**
+     * 미리 계산된 페이지
+     * @param page 0부터 시작하는 페이지 번호
+     * @return 저장된 범위 안의 페이지면 해당 상품 목록, 범위를 벗어나거나 아직 준비되지 않았으면 empty
+     */
+    public Optional<FeedPage> page(ProductSortType sortType, int page, int size) {
+        Window window;
+        synchronized (lock) {
+            window = windows.get(sortType);
+        }
+        if (window == null) {
+            return Optional.empty();
+        }
+        long from = (long) page * size;
+        long to = from + size;
+        if (to > window.items().size() && !window.complete()) {
+            return Optional.empty();
+        }
+        int start = (int) Math.min(from, window.items().size());
+        int end = (int) Math.min(to, window.items().size());
+        boolean hasNext = end < window.items().size() || !window.complete();
+        return Optional.of(new FeedPage(window.items().subList(start, end), hasNext));
+    }
+
+    private void applyLocked(Long productId, ProductListResponse product) {
+        Map<ProductSortType, Window> updated = new EnumMap<>(ProductSortType.class);
+        windows.forEach((sortType, window) -> updated.put(sortType, window.apply(productId, product,
+                comparator(sortType), maxItems)));
+        windows = updated;
+    }
+
+    private List<ProductListResponse> load(ProductSortType sortType) {
+        Sort.Direction direction = Sort.Direction.fromString(sortType.getDirection());
+        Sort sort = Sort.by(direction, sortType.getField()).and(Sort.by(direction, "id"));
+        List<ProductListRow> rows = productRepository.findActiveListRows(PageRequest.of(0, maxItems, sort))
+                .getContent();
+        return toResponses(rows);
+    }
+
+    // 활성 상품만 (비활성/삭제된 상품은 결과에 없음)
+    private Map<Long, ProductListResponse> loadActive(List<Long> productIds) {
+        Map<Long, ProductListResponse> products = new HashMap<>();
+        for (int from = 0; from < productIds.size(); from += LOAD_CHUNK_SIZE) {
+            List<Long> chunk = productIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, productIds.size()));
+            List<ProductListRow> rows = productRepository.findListRowsByIds(chunk).stream()
+                    .filter(ProductListRow::isActive)
+                    .toList();
+            toResponses(rows).forEach(product -> products.put(product.getId(), product));
+        }
+        return products;
+    }
+
+    private List<ProductListResponse> toResponses(List<ProductListRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rows.stream().map(ProductListRow::getId).toList();
+        return ProductListResponse.fromRows(rows, productRepository.findImageRowsByProductIds(ids));
+    }
+
+    private static Comparator<ProductListResponse> comparator(ProductSortType sortType) {
+        Comparator<ProductListResponse> byId = Comparator.comparing(ProductListResponse::getId);
+        return switch (sortType) {
+            case UPDATED_AT_DESC -> Comparator.comparing(ProductListResponse::getUpdatedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder())).thenComparing(byId.reversed());
+            case PRICE_ASC -> Comparator.comparing(ProductListResponse::getPrice,
+                    Comparator.nullsFirst(Comparator.naturalOrder())).thenComparing(byId);
+            case PRICE_DESC -> Comparator.comparing(ProductListResponse::getPrice,
+                    Comparator.nullsLast(Comparator.reverseOrder())).thenComparing(byId.reversed());
+            case RECOMMEND -> Comparator.comparingDouble(ProductListResponse::getRecommendScore).reversed()
+                    .thenComparing(byId.reversed());
+            default -> Comparator.comparing(ProductListResponse::getCreatedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder())).thenComparing(byId.reversed());
+        };
+    }
+
+    /**
+     * @param items 반환할 상품 목록
+     * @param hasNext 다음 페이지 존재 여부
+     */
+    public record FeedPage(List<ProductListResponse> items, boolean hasNext) {
+    }
+
+    /**
+     * 한 정렬 기준의 앞부분
+     * @param complete 활성 상품 전체가 들어 있는지 여부 (false면 items 뒤에 상품이 더 있음)
+     */
+    private record Window(List<ProductListResponse> items, boolean complete) {
+
+        private Window apply(Long productId, ProductListResponse product,
+                             Comparator<ProductListResponse> comparator, int maxItems) {
+            List<ProductListResponse> next = new ArrayList<>(items.size() + 1);
+            for (ProductListResponse item : items) {
+                if (!item.getId().equals(productId)) {
+                    next.add(item);
+                }
+            }
+            boolean nowComplete = complete;
+            // 저장된 범위의 마지막보다 뒤에 오는 상품은 범위 밖 상품과의 순서를 알 수 없으므로 넣지 않음
+            if (product != null && (complete
+                    || (!next.isEmpty() && comparator.compare(product, next.get(next.size() - 1)) < 0))) {
+                int position = Collections.binarySearch(next, product, comparator);
+                next.add(position >= 0 ? position : -position - 1, product);
+                if (next.size() > maxItems) {
+                    next.remove(next.size() - 1);
+                    nowComplete = false;
+                }
+            }
+            return new Window(List.copyOf(next), nowComplete);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.handy.appserver.cache;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 최대 건수와 항목별 TTL이 있는 LRU 캐시
+ * - 최대 건수를 넘으면 가장 오래 조회되지 않은 항목부터 제거
+ * - 조회 중 무효화가 일어나면 조회 결과를 저장하지 않아 이전 값이 다시 들어가지 않음
+ * - loader가 null을 반환하거나 결과에 없는 키는 캐시하지 않음
+ */
+public class LruCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public LruCache(int maxEntries, long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        long generation;
+        synchronized (entries) {
+            V cached = getFresh(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            generation = invalidations.get();
+        }
+        misses.incrementAndGet();
+
+        V value = loader.apply(key);
+        if (value != null) {
+            synchronized (entries) {
+                if (invalidations.get() == generation) {
+                    entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 여러 키 조회 - 캐시에 없는 키만 모아 loader를 한 번 호출
+     * @return 찾은 키의 값 (없는 키는 포함하지 않음)
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        long generation;
+        synchronized (entries) {
+            for (K key : keys) {
+                V cached = getFresh(key);
+                if (cached != null) {
+                    result.put(key, cached);
+                } else {
+                    missing.add(key);
+                }
+            }
+            generation = invalidations.get();
+        }
+        hits.addAndGet(result.size());
+        if (missing.isEmpty()) {
+            return result;
+        }
+        misses.addAndGet(missing.size());
+
+        Map<K, V> loaded = loader.apply(missing);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            boolean valid = invalidations.get() == generation;
+            loaded.forEach((key, value) -> {
+                if (value != null) {
+                    result.put(key, value);
+                    if (valid) {
+                        entries.put(key, new Entry<>(value, now));
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 조회 없이 값을 바로 저장 (이미 확인된 값으로 덮어쓸 때)
+     */
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+        }
+    }
+
+    public void evict(K key) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(key);
+        }
+    }
+
+    public void evictIf(Predicate<V> predicate) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.values().removeIf(entry -> predicate.test(entry.value));
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.get(), misses.get(), evictions.get(), invalidations.get(), size);
+    }
+
+    // entries 잠금 안에서 호출
+    private V getFresh(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.loadedAt > ttlMillis) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 누적 캐시 통계
+     */
+    public record Stats(long hits, long misses, long evictions, long invalidations, int size) {
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("size: %d, hits: %d, misses: %d, hit rate: %.1f%%, evictions: %d, invalidations: %d",
+                    size, hits, misses, hitRate() * 100, evictions, invalidations);
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
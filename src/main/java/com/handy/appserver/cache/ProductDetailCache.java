@@ -0,0 +1,64 @@
+package com.handy.appserver.cache;
+
+import com.handy.appserver.dto.ProductResponse;
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.event.UserNameChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 상품 상세 응답(ProductResponse) 캐시
+ * - 최대 건수를 넘으면 가장 오래 조회되지 않은 항목부터 제거 (LRU), 항목별 TTL 적용
+ * - 상품 수정/비활성화, 판매자 이름 변경이 커밋되면 해당 항목만 무효화
+ *   다른 서버의 변경은 아웃박스로 전달되어 ProductChangedEvent로 들어옴 (판매자 이름 변경은 그 판매자의 상품마다 기록)
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private final LruCache<Long, ProductResponse> cache;
+
+    public ProductDetailCache(@Value("${cache.product-detail.max-entries:10000}") int maxEntries,
+                              @Value("${cache.product-detail.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new LruCache<>(maxEntries, ttlSeconds);
+    }
+
+    public ProductResponse get(Long productId, Function<Long, ProductResponse> loader) {
+        return cache.get(productId, loader);
+    }
+
+    public void evict(Long productId) {
+        cache.evict(productId);
+    }
+
+    public void evictSeller(Long sellerId) {
+        cache.evictIf(response -> sellerId.equals(response.getSellerId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.getProductId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserNameChanged(UserNameChangedEvent event) {
+        evictSeller(event.getUserId());
+    }
+
+    public LruCache.Stats stats() {
+        return cache.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${cache.stats-log-interval-ms:300000}")
+    public void logStats() {
+        LruCache.Stats stats = cache.stats();
+        if (stats.hits() + stats.misses() > 0) {
+            log.info("Product detail cache - {}", stats);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.handy.appserver.cache;
+
+import com.handy.appserver.dto.ProductListResponse;
+import com.handy.appserver.event.ProductChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 상품 목록 항목(ProductListResponse) 캐시 - 여러 상품 조회(/api/products/batch)용
+ * 상품 변경이 커밋되면 해당 항목만 무효화
+ */
+@Slf4j
+@Component
+public class ProductListItemCache {
+
+    private final LruCache<Long, ProductListResponse> cache;
+
+    public ProductListItemCache(@Value("${cache.product-list-item.max-entries:20000}") int maxEntries,
+                                @Value("${cache.product-list-item.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new LruCache<>(maxEntries, ttlSeconds);
+    }
+
+    /**
+     * @param loader 캐시에 없는 상품 ID로 조회 (결과에 없는 ID는 존재하지 않는 상품)
+     */
+    public Map<Long, ProductListResponse> getAll(Collection<Long> productIds,
+                                                 Function<Collection<Long>, Map<Long, ProductListResponse>> loader) {
+        return cache.getAll(productIds, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        cache.evict(event.getProductId());
+    }
+
+    @Scheduled(fixedDelayString = "${cache.stats-log-interval-ms:300000}")
+    public void logStats() {
+        LruCache.Stats stats = cache.stats();
+        if (stats.hits() + stats.misses() > 0) {
+            log.info("Product list item cache - {}", stats);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.context.annotation.Bean;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -17,7 +18,63 @@ public class AsyncConfig {
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(25);
         executor.setThreadNamePrefix("ImageTask-");
+        // 큐가 가득 차면 받지 않음 (요청 스레드가 S3 작업을 대신 실행하지 않도록, 밀린 작업은 DB에 남아 주기 조회가 다시 처리)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.initialize();
         return executor;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 썸네일 디코딩/리사이즈용 (CPU 작업이라 코어 수만큼만 실행)
+     */
+    @Bean(name = "imageDerivativeExecutor")
+    public Executor imageDerivativeExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("ImageDerivative-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드 확인 기록 UPDATE용 (S3 응답을 받은 SDK 스레드에서 JDBC를 실행하지 않도록 넘겨받음)
+     */
+    @Bean(name = "uploadConfirmExecutor")
+    public Executor uploadConfirmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("UploadConfirm-");
+        // 큐가 가득 차면 받지 않음 (SDK 스레드가 대신 실행하지 않도록, 호출 측이 기록 없이 완료)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "indexTaskExecutor")
+    public Executor indexTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("IndexTask-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("CacheRefresh-");
+        executor.initialize();
+        return executor;
+    }
+}
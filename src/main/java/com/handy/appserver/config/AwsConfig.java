@@ -1,16 +1,18 @@
 package com.handy.appserver.config;
 
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.BasicAWSCredentials;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
-import software.amazon.awssdk.auth.credentials.ProfileCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
 
 @Configuration
 public class AwsConfig {
@@ -26,29 +28,51 @@ public class AwsConfig {
 
     @Bean
     public AwsCredentialsProvider awsCredentialsProvider() {
-        System.out.println("Using AWS profile: handy");
-        return ProfileCredentialsProvider.create("handy");
+        if (accessKey == null || secretKey == null || region == null) {
+            throw new IllegalStateException("AWS credentials not found in application.yml or environment variables");
+        }
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
     }
 
-    @Bean
-    public S3Client s3Client(AwsCredentialsProvider credentialsProvider) {
-        System.out.println("S3Client built with profile: handy");
-        return S3Client.builder()
-                .credentialsProvider(credentialsProvider)
-                .region(Region.of("ap-northeast-2"))
+    /**
+     * S3 호출이 함께 쓰는 커넥션 풀 (동시 요청 수를 넘으면 커넥션을 기다리고, 대기도 가득 차면 바로 실패)
+     */
+    @Bean(destroyMethod = "close")
+    public SdkAsyncHttpClient s3HttpClient(
+            @Value("${storage.s3.max-connections:100}") int maxConnections,
+            @Value("${storage.s3.max-pending-acquires:1000}") int maxPendingAcquires,
+            @Value("${storage.s3.acquire-timeout-ms:5000}") long acquireTimeoutMillis,
+            @Value("${storage.s3.connect-timeout-ms:2000}") long connectTimeoutMillis,
+            @Value("${storage.s3.read-timeout-ms:30000}") long readTimeoutMillis) {
+        return NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(maxConnections)
+                .maxPendingConnectionAcquires(maxPendingAcquires)
+                .connectionAcquisitionTimeout(Duration.ofMillis(acquireTimeoutMillis))
+                .connectionTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .readTimeout(Duration.ofMillis(readTimeoutMillis))
+                .writeTimeout(Duration.ofMillis(readTimeoutMillis))
+                .connectionMaxIdleTime(Duration.ofSeconds(60))
+                .tcpKeepAlive(true)
                 .build();
     }
 
-    @Bean
-    public AmazonS3 amazonS3() {
-        if (accessKey == null || secretKey == null || region == null) {
-            throw new IllegalStateException("AWS credentials not found in application.yml or environment variables");
-        }
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(AwsCredentialsProvider credentialsProvider,
+                                       SdkAsyncHttpClient s3HttpClient,
+                                       @Value("${storage.s3.api-call-timeout-ms:60000}") long apiCallTimeoutMillis) {
+        return S3AsyncClient.builder()
+                .credentialsProvider(credentialsProvider)
+                .region(Region.of(region))
+                .httpClient(s3HttpClient)
+                .overrideConfiguration(config -> config.apiCallTimeout(Duration.ofMillis(apiCallTimeoutMillis)))
+                .build();
+    }
 
-        BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                .withRegion(region)
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner(AwsCredentialsProvider credentialsProvider) {
+        return S3Presigner.builder()
+                .credentialsProvider(credentialsProvider)
+                .region(Region.of(region))
                 .build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.handy.appserver.config;
+
+import com.handy.appserver.entity.common.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+@Slf4j
+@Configuration
+public class IdGeneratorConfig {
+
+    // 노드 ID를 지정하지 않아도 되는 프로필 (서버가 하나뿐인 환경)
+    private static final Profiles SINGLE_NODE_PROFILES = Profiles.of("local", "test");
+
+    /**
+     * 노드 ID는 서버마다 달라야 함 (NODE_ID 환경 변수, 0~31)
+     * 같은 값을 쓰면 ID가 중복되고, 아웃박스가 다른 서버의 변경을 자기 변경으로 보고 건너뛰므로
+     * local/test 외 프로필에서는 지정하지 않으면 시작하지 않음
+     * 배포 워크플로가 서버(환경)마다 NODE_ID를 넘김 (GitHub 환경 변수 NODE_ID, 없으면 prod 0 / dev 1)
+     */
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${id-generator.node-id:}") String nodeId,
+                                                     Environment environment) {
+        long resolved;
+        if (nodeId.isBlank()) {
+            if (!environment.acceptsProfiles(SINGLE_NODE_PROFILES)) {
+                throw new IllegalStateException("NODE_ID 환경 변수(id-generator.node-id)를 서버마다 다른 값으로 지정해야 합니다.");
+            }
+            resolved = 0;
+        } else {
+            resolved = Long.parseLong(nodeId.trim());
+        }
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(resolved);
+        log.info("Snowflake ID generator initialized - node: {}", resolved);
+        return generator;
+    }
+}
@@ -75,6 +75,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/reports/**").permitAll()
                 .requestMatchers("/api/snap/list").permitAll()
                 .requestMatchers("/api/snap/posts/**").permitAll()
+                .requestMatchers("/api/snap/search/**").permitAll()
                 .requestMatchers("/api/snap/**").authenticated()
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers("/error").permitAll()
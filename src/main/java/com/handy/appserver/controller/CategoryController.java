@@ -0,0 +1,36 @@
+package com.handy.appserver.controller;
+
+import com.handy.appserver.dto.CategoryResponse;
+import com.handy.appserver.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final CategoryService categoryService;
+
+    // 전체 카테고리 트리 (카테고리별 활성 상품 수 포함)
+    @GetMapping
+    public ResponseEntity<List<CategoryResponse>> getCategoryTree() {
+        return ResponseEntity.ok(categoryService.getCategoryTree());
+    }
+
+    // 카테고리 상세 (하위 카테고리 포함)
+    @GetMapping("/{categoryId}")
+    public ResponseEntity<CategoryResponse> getCategory(@PathVariable Long categoryId) {
+        try {
+            return ResponseEntity.ok(categoryService.getCategory(categoryId));
+        } catch (IllegalArgumentException e) {
+            log.warn("Category not found: {}", categoryId);
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -6,15 +6,30 @@ import com.handy.appserver.dto.ImageMoveResponse;
 import com.handy.appserver.service.ImageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import com.handy.appserver.dto.PresignedUrlRequest;
 import com.handy.appserver.dto.PresignedUrlResponse;
+import com.handy.appserver.dto.BatchPresignedUrlRequest;
+import com.handy.appserver.dto.UploadCompleteRequest;
+import com.handy.appserver.dto.UploadSessionBatchRequest;
+import com.handy.appserver.dto.UploadSessionRequest;
+import com.handy.appserver.dto.UploadSessionResponse;
+import com.handy.appserver.security.CustomUserDetails;
+import com.handy.appserver.service.ImageUploadRegistry;
 import com.handy.appserver.service.S3Service;
+import com.handy.appserver.service.UploadSessionService;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.http.MediaType;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -23,42 +38,141 @@ public class ImageController {
 
     private final ImageService imageService;
     private final S3Service s3Service;
+    private final ImageUploadRegistry uploadRegistry;
+    private final UploadSessionService uploadSessionService;
 
     @PostMapping("/presigned-url")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<PresignedUrlResponse> generatePresignedUrl(@RequestBody PresignedUrlRequest request) {
-        String presignedUrl = s3Service.generatePresignedUrl(request.getFileName());
+    public ResponseEntity<PresignedUrlResponse> generatePresignedUrl(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody PresignedUrlRequest request) {
+        String presignedUrl = s3Service.generatePresignedUrl(userDetails.getId(), request.getFileName());
         return ResponseEntity.ok(new PresignedUrlResponse(presignedUrl));
     }
 
+    /**
+     * 임시 폴더 업로드 presigned URL 일괄 발급 (여러 장을 올릴 때 파일마다 요청하지 않도록, 요청 순서대로 반환)
+     */
+    @PostMapping("/presigned-urls")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<UploadSessionResponse>> generatePresignedUrls(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody BatchPresignedUrlRequest request) {
+        try {
+            return ResponseEntity.ok(uploadSessionService.createTempUploads(userDetails.getId(), request.getFileNames()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid presigned URL batch request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PostMapping("/profile/presigned-url")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<PresignedUrlResponse> generateProfileImagePresignedUrl(@RequestBody PresignedUrlRequest request) {
+    public ResponseEntity<PresignedUrlResponse> generateProfileImagePresignedUrl(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody PresignedUrlRequest request) {
         log.debug("Generating presigned URL for profile image: {}", request.getFileName());
-        String presignedUrl = s3Service.generateProfileImagePresignedUrl(request.getFileName());
+        String presignedUrl = s3Service.generateProfileImagePresignedUrl(userDetails.getId(), request.getFileName());
         return ResponseEntity.ok(new PresignedUrlResponse(presignedUrl));
     }
 
+    /**
+     * 상품 이미지 업로드 세션 (products/{productId}/main 또는 details 에 바로 올리는 presigned URL)
+     * 새 상품이면 productId 없이 요청하고, 응답의 productId를 이후 세션과 상품 등록 요청에 그대로 사용
+     */
+    @PostMapping("/upload-sessions/product")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<UploadSessionResponse> createProductImageSession(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody UploadSessionRequest request) {
+        try {
+            return ResponseEntity.ok(uploadSessionService.createProductImageSession(
+                    userDetails.getId(), request.getProductId(), request.isMain(), request.getFileName()));
+        } catch (AccessDeniedException e) {
+            log.warn("Product upload session denied: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product upload session request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 상품 이미지 여러 장의 업로드 세션 일괄 발급 (대표 + 상세 이미지를 한 요청으로, 요청 순서대로 반환)
+     */
+    @PostMapping("/upload-sessions/product/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<UploadSessionResponse>> createProductImageSessions(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody UploadSessionBatchRequest request) {
+        try {
+            return ResponseEntity.ok(uploadSessionService.createProductImageSessions(
+                    userDetails.getId(), request.getProductId(), request.getFiles()));
+        } catch (AccessDeniedException e) {
+            log.warn("Product upload session batch denied: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product upload session batch request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 프로필 이미지 업로드 세션 (users/{userId}/profile 에 바로 올리는 presigned URL)
+     */
+    @PostMapping("/upload-sessions/profile")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<UploadSessionResponse> createProfileImageSession(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody UploadSessionRequest request) {
+        try {
+            return ResponseEntity.ok(uploadSessionService.createProfileImageSession(userDetails.getId(), request.getFileName()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid profile upload session request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * presigned URL 업로드 완료 알림 (HEAD 한 번으로 확인해 두면 이후 등록 시 S3를 다시 확인하지 않음)
+     */
+    @PostMapping("/uploads/complete")
+    @PreAuthorize("isAuthenticated()")
+    public CompletableFuture<ResponseEntity<Void>> completeUpload(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody UploadCompleteRequest request) {
+        return uploadRegistry.confirmUpload(userDetails.getId(), request.getImageUrl())
+                .thenApply(confirmed -> ResponseEntity.noContent().<Void>build())
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof IllegalArgumentException) {
+                        log.warn("Invalid upload complete request: {}", cause.getMessage());
+                        return ResponseEntity.badRequest().build();
+                    }
+                    throw e instanceof CompletionException completion ? completion : new CompletionException(cause);
+                });
+    }
+
     /**
      * S3 이미지 이동 테스트용 API
      * temp 폴더의 이미지를 목적 폴더로 이동
      */
     @PostMapping("/move")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ImageMoveResponse> moveImage(@RequestBody ImageMoveRequest request) {
-        try {
-            String newUrl = imageService.moveImageInS3(request.getSourceUrl(), request.getTargetKey());
-            return ResponseEntity.ok(new ImageMoveResponse(
-                request.getSourceUrl(), 
-                newUrl, 
-                "이미지가 성공적으로 이동되었습니다."
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(new ImageMoveResponse(
-                request.getSourceUrl(), 
-                null, 
-                "이미지 이동 실패: " + e.getMessage()
-            ));
-        }
+    public CompletableFuture<ResponseEntity<ImageMoveResponse>> moveImage(@RequestBody ImageMoveRequest request) {
+        return imageService.moveImageInS3(request.getSourceUrl(), request.getTargetKey())
+                .thenApply(newUrl -> ResponseEntity.ok(new ImageMoveResponse(
+                    request.getSourceUrl(), 
+                    newUrl, 
+                    "이미지가 성공적으로 이동되었습니다."
+                )))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    return ResponseEntity.badRequest().body(new ImageMoveResponse(
+                        request.getSourceUrl(), 
+                        null, 
+                        "이미지 이동 실패: " + cause.getMessage()
+                    ));
+                });
     }
 } 
\ No newline at end of file
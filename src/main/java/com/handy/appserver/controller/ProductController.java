@@ -1,6 +1,10 @@
 package com.handy.appserver.controller;
 
 import com.handy.appserver.dto.ProductCreateRequest;
+import com.handy.appserver.dto.ProductFilterRequest;
+import com.handy.appserver.dto.ProductFilterResponse;
+import com.handy.appserver.dto.ProductImportResult;
+import com.handy.appserver.dto.ProductImportSummary;
 import lombok.extern.slf4j.Slf4j;
 import com.handy.appserver.dto.ProductUpdateRequest;
 import com.handy.appserver.dto.ProductResponse;
@@ -8,12 +12,18 @@ import com.handy.appserver.dto.ProductListResponse;
 import com.handy.appserver.dto.ProductListPageResponse;
 import com.handy.appserver.dto.ProductSearchRequest;
 import com.handy.appserver.dto.ProductSearchResponse;
+import com.handy.appserver.dto.ProductSuggestionResponse;
 import com.handy.appserver.entity.product.Product;
 import com.handy.appserver.entity.product.ProductShape;
 import com.handy.appserver.entity.product.ProductSize;
 import com.handy.appserver.entity.product.ProductSortType;
 import com.handy.appserver.security.CustomUserDetails;
+import com.handy.appserver.service.ProductImportService;
 import com.handy.appserver.service.ProductService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -26,9 +36,11 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.PrintWriter;
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -37,6 +49,8 @@ import java.util.stream.Collectors;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ObjectMapper objectMapper;
 
     // 상품 등록
     @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
@@ -74,23 +88,81 @@ public class ProductController {
         }
         log.info("================================");
         
-        Product product = productService.createProduct(
-            userDetails.getId(),
-            request.getName(),
-            request.getDescription(),
-            request.getShape(),
-            request.isShapeChangeable(),
-            request.getSize(),
-            request.isSizeChangeable(),
-            request.getPrice(),
-            request.getProductionDays(),
-            request.isCustomAvailable(), // customAvailable 기본값 false
-            request.getCategoryIds(),
-            request.getMainImageUrl(),
-            request.getDetailImages()
-        );
-        
-        return ResponseEntity.ok(new ProductResponse(product));
+        try {
+            Product product = productService.createProduct(
+                userDetails.getId(),
+                request.getName(),
+                request.getDescription(),
+                request.getShape(),
+                request.isShapeChangeable(),
+                request.getSize(),
+                request.isSizeChangeable(),
+                request.getPrice(),
+                request.getProductionDays(),
+                request.isCustomAvailable(), // customAvailable 기본값 false
+                request.getCategoryIds(),
+                request.getMainImageUrl(),
+                request.getDetailImages(),
+                request.getProductId()
+            );
+
+            return ResponseEntity.ok(new ProductResponse(product));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product create request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 상품 일괄 등록 (NDJSON 또는 CSV 스트리밍 입력, 배치마다 행별 결과를 NDJSON으로 바로 응답)
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @PreAuthorize("isAuthenticated()")
+    public void importProducts(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        if (userDetails == null) {
+            response.setStatus(401);
+            return;
+        }
+        try {
+            productImportService.validateSeller(userDetails.getId());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product import request: {}", e.getMessage());
+            response.setStatus(400);
+            return;
+        }
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        PrintWriter writer = response.getWriter();
+        try {
+            ProductImportSummary summary = productImportService.importProducts(
+                    userDetails.getId(),
+                    request.getInputStream(),
+                    ProductImportService.Format.fromContentType(request.getContentType()),
+                    results -> {
+                        for (ProductImportResult result : results) {
+                            writeLine(writer, result);
+                        }
+                        writer.flush();
+                    });
+            writeLine(writer, summary);
+        } catch (IllegalArgumentException e) {
+            // 응답을 이미 보내기 시작했을 수 있으므로 상태 코드 대신 마지막 줄로 전달
+            log.warn("Product import stopped: {}", e.getMessage());
+            writeLine(writer, Map.of("error", e.getMessage()));
+        }
+        writer.flush();
+    }
+
+    private void writeLine(PrintWriter writer, Object value) {
+        try {
+            writer.write(objectMapper.writeValueAsString(value));
+            writer.write('\n');
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     // 상품 수정
@@ -105,24 +177,29 @@ public class ProductController {
             return ResponseEntity.status(401).build();
         }
 
-        Product product = productService.updateProduct(
-                productId,
-                userDetails.getId(),
-                request.getName(),
-                request.getDescription(),
-                request.getShape(),
-                request.isShapeChangeable(),
-                request.getSize(),
-                request.isSizeChangeable(),
-                request.getPrice(),
-                request.getProductionDays(),
-                request.isCustomAvailable(),
-                request.getCategoryIds(),
-                request.getMainImageUrl(),
-                request.getDetailImages()
-        );
+        try {
+            Product product = productService.updateProduct(
+                    productId,
+                    userDetails.getId(),
+                    request.getName(),
+                    request.getDescription(),
+                    request.getShape(),
+                    request.isShapeChangeable(),
+                    request.getSize(),
+                    request.isSizeChangeable(),
+                    request.getPrice(),
+                    request.getProductionDays(),
+                    request.isCustomAvailable(),
+                    request.getCategoryIds(),
+                    request.getMainImageUrl(),
+                    request.getDetailImages()
+            );
 
-        return ResponseEntity.ok(new ProductResponse(product));
+            return ResponseEntity.ok(new ProductResponse(product));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product update request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 상품 삭제 (비활성화)
@@ -143,18 +220,22 @@ public class ProductController {
     // 상품 상세 조회
     @GetMapping("/{productId}")
     public ResponseEntity<ProductResponse> getProduct(@PathVariable Long productId) {
-        Product product = productService.getProduct(productId);
-        return ResponseEntity.ok(new ProductResponse(product));
+        return ResponseEntity.ok(productService.getProductResponse(productId));
     }
 
-    // 판매자의 상품 목록 조회
+    // 판매자의 상품 목록 조회 (cursor 지정 시 커서 기반 조회, 첫 페이지는 cursor= 로 요청)
     @GetMapping("/seller/{sellerId}")
-    public ResponseEntity<Page<ProductListResponse>> getSellerProducts(
+    public ResponseEntity<?> getSellerProducts(
             @PathVariable Long sellerId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) ProductSortType sort,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor) {
+        
+        if (cursor != null) {
+            return scroll(sellerId, null, false, false, keyword, sort, cursor, size);
+        }
         
         Pageable pageable = createPageable(page, size, sort);
         Page<Product> products = productService.getSellerProducts(sellerId, keyword, pageable);
@@ -162,31 +243,77 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
-    // 카테고리별 상품 목록 조회
+    // 카테고리별 상품 목록 조회 (cursor 지정 시 커서 기반 조회, 첫 페이지는 cursor= 로 요청)
+    // includeSubcategories=true면 하위 카테고리 상품까지 포함
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<Page<ProductListResponse>> getProductsByCategory(
+    public ResponseEntity<?> getProductsByCategory(
             @PathVariable Long categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) ProductSortType sort,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeSubcategories) {
+        
+        if (cursor != null) {
+            return scroll(null, categoryId, includeSubcategories, false, keyword, sort, cursor, size);
+        }
         
         Pageable pageable = createPageable(page, size, sort);
-        Page<Product> products = productService.getProductsByCategory(categoryId, keyword, pageable);
-        Page<ProductListResponse> response = products.map(ProductListResponse::new);
-        return ResponseEntity.ok(response);
+        try {
+            Page<Product> products = productService.getProductsByCategory(categoryId, keyword, includeSubcategories, pageable);
+            Page<ProductListResponse> response = products.map(ProductListResponse::new);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid category product request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 상품 검색 (새로운 API)
     @PostMapping("/search")
     public ResponseEntity<ProductSearchResponse> searchProducts(@RequestBody ProductSearchRequest request) {
-        ProductSearchResponse response = productService.searchProducts(
-            request.getKeyword(), 
-            request.getPage(), 
-            request.getSize(), 
-            request.getSort()
-        );
-        return ResponseEntity.ok(response);
+        try {
+            ProductSearchResponse response = productService.searchProducts(
+                request.getKeyword(), 
+                request.getPage(), 
+                request.getSize(), 
+                request.getSort(),
+                request.getCursor()
+            );
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product search request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // 상품명 오타 허용 검색 ("네알팁" → "네일팁")
+    @GetMapping("/search/fuzzy")
+    public ResponseEntity<ProductSearchResponse> fuzzySearchProducts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(productService.fuzzySearchProducts(keyword, page, size));
+    }
+
+    // 검색어 자동완성 (입력할 때마다 호출, 초성 입력 지원)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ProductSuggestionResponse>> autocomplete(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productService.autocomplete(keyword, limit));
+    }
+
+    // 상품 필터 검색 (모양/크기/가격/제작일/맞춤 제작/카테고리 + 항목별 상품 수)
+    @PostMapping("/filter")
+    public ResponseEntity<ProductFilterResponse> filterProducts(@RequestBody ProductFilterRequest request) {
+        try {
+            return ResponseEntity.ok(productService.filterProducts(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product filter request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 상품명으로 검색 (기존 API - 하위 호환성 유지)
@@ -208,19 +335,30 @@ public class ProductController {
     public ResponseEntity<ProductListPageResponse> getProductList(
             @RequestParam(defaultValue = "10") int listNum,
             @RequestParam(defaultValue = "CREATED_AT_DESC") String sort,
-            @RequestParam(required = false) Integer page) {
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) String cursor) {
         
-        ProductListPageResponse response = productService.getProductList(listNum, sort, page);
-        return ResponseEntity.ok(response);
+        try {
+            ProductListPageResponse response = productService.getProductList(listNum, sort, page, cursor);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product list request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
-    // 활성화된 상품만 조회
+    // 활성화된 상품만 조회 (cursor 지정 시 커서 기반 조회, 첫 페이지는 cursor= 로 요청)
     @GetMapping("/active")
-    public ResponseEntity<Page<ProductListResponse>> getActiveProducts(
+    public ResponseEntity<?> getActiveProducts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) ProductSortType sort,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor) {
+        
+        if (cursor != null) {
+            return scroll(null, null, false, true, keyword, sort, cursor, size);
+        }
         
         Pageable pageable = createPageable(page, size, sort);
         Page<Product> products = productService.getActiveProducts(keyword, pageable);
@@ -228,14 +366,27 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
-    // 여러 상품 조회
+    // 여러 상품 조회 (요청 순서대로 반환, 중복 ID 제외)
     @PostMapping("/batch")
     public ResponseEntity<List<ProductListResponse>> getProductsByIds(@RequestBody List<Long> productIds) {
-        List<Product> products = productService.getProductsByIds(productIds);
-        List<ProductListResponse> response = products.stream()
-                .map(ProductListResponse::new)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(response);
+        try {
+            return ResponseEntity.ok(productService.getProductsByIds(productIds));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product batch request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    private ResponseEntity<ProductSearchResponse> scroll(Long sellerId, Long categoryId, boolean includeSubcategories,
+                                                         boolean activeOnly, String keyword, ProductSortType sort,
+                                                         String cursor, int size) {
+        try {
+            return ResponseEntity.ok(productService.scrollProducts(sellerId, categoryId, includeSubcategories,
+                    activeOnly, keyword, sort, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product cursor request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     private Pageable createPageable(int page, int size, ProductSortType sort) {
@@ -54,6 +54,9 @@ public class SnapPostController {
             SnapPostResponse snapPost = snapPostService.createSnapPost(request, userDetails.getId());
             log.debug("Snap post created successfully with id: {}", snapPost.getId());
             return ResponseEntity.ok(snapPost);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid snap post request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("Error creating snap post: {}", e.getMessage(), e);
             throw e;
@@ -159,6 +162,22 @@ public class SnapPostController {
         return ResponseEntity.ok(PaginationResponse.from(snapPosts));
     }
 
+    // 스냅 제목 오타 허용 검색 (자모 단위 편집 거리)
+    @GetMapping("/search/fuzzy")
+    public ResponseEntity<PaginationResponse<SnapPostResponse>> searchSnapPostsFuzzy(
+            @RequestParam String keyword,
+            @PageableDefault(size = 10) Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        User currentUser = null;
+        if (userDetails != null) {
+            currentUser = userService.findById(userDetails.getId());
+        }
+
+        Page<SnapPostResponse> snapPosts = snapPostService.searchSnapPostsFuzzy(keyword, pageable, currentUser);
+        return ResponseEntity.ok(PaginationResponse.from(snapPosts));
+    }
+
     /**
      * 특정 사용자의 SnapPost 목록을 효율적으로 조회 (좋아요 정보 포함)
      */
@@ -0,0 +1,12 @@
+package com.handy.appserver.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BatchPresignedUrlRequest {
+    private List<String> fileNames;
+}
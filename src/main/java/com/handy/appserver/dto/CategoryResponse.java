@@ -0,0 +1,17 @@
+package com.handy.appserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CategoryResponse {
+    private Long id;
+    private String name;
+    private Long parentId;
+    private int productCount;        // 이 카테고리에 직접 연결된 활성 상품 수
+    private int totalProductCount;   // 하위 카테고리를 포함한 활성 상품 수 (중복 제외)
+    private List<CategoryResponse> children;
+}
@@ -23,4 +23,5 @@ public class ProductCreateRequest {
     private String mainImageUrl;
     private List<DetailImageRequest> detailImages;
     private boolean customAvailable;
+    private Long productId; // 업로드 세션에서 미리 받은 상품 ID (임시 폴더로 업로드했으면 비움)
 } 
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.handy.appserver.dto;
+
+import com.handy.appserver.entity.product.Product;
+import com.handy.appserver.entity.product.ProductSortType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서 (keyset 페이지네이션용)
+ * (정렬 기준, 마지막 상품의 정렬 필드 값, 마지막 상품 ID)를 클라이언트에는 불투명한 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class ProductCursor {
+    private static final String SEPARATOR = "|";
+
+    private final ProductSortType sort;
+    private final String value;
+    private final Long id;
+
+    public static ProductCursor of(ProductSortType sort, Product product) {
+        return of(sort, product.getId(), product.getPrice(), product.getCreatedAt(), product.getUpdatedAt(),
+                product.getRecommendScore());
+    }
+
+    public static ProductCursor of(ProductSortType sort, ProductListRow row) {
+        return of(sort, row.getId(), row.getPrice(), row.getCreatedAt(), row.getUpdatedAt(), row.getRecommendScore());
+    }
+
+    public static ProductCursor of(ProductSortType sort, ProductListResponse product) {
+        return of(sort, product.getId(), product.getPrice(), product.getCreatedAt(), product.getUpdatedAt(),
+                product.getRecommendScore());
+    }
+
+    private static ProductCursor of(ProductSortType sort, Long id, BigDecimal price,
+                                    LocalDateTime createdAt, LocalDateTime updatedAt, double recommendScore) {
+        String value = switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> price.toPlainString();
+            case UPDATED_AT_DESC -> String.valueOf(updatedAt);
+            case RECOMMEND -> Double.toString(recommendScore);
+            default -> String.valueOf(createdAt);
+        };
+        return new ProductCursor(sort, value, id);
+    }
+
+    public static ProductCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            return new ProductCursor(ProductSortType.valueOf(parts[0]), parts[1], Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public BigDecimal priceValue() {
+        return new BigDecimal(value);
+    }
+
+    public Double scoreValue() {
+        return Double.valueOf(value);
+    }
+
+    public LocalDateTime dateTimeValue() {
+        return LocalDateTime.parse(value);
+    }
+}
@@ -0,0 +1,28 @@
+package com.handy.appserver.dto;
+
+import com.handy.appserver.entity.product.ProductShape;
+import com.handy.appserver.entity.product.ProductSize;
+import com.handy.appserver.entity.product.ProductSortType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 필터 검색 요청 (모든 조건은 선택, 지정한 조건은 AND로 결합)
+ */
+@Getter
+@NoArgsConstructor
+public class ProductFilterRequest {
+    private List<ProductShape> shapes;      // 하나라도 일치하면 포함
+    private List<ProductSize> sizes;        // 하나라도 일치하면 포함
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Integer maxProductionDays;
+    private Boolean customAvailable;
+    private Long categoryId;
+    private int page = 1;
+    private int size = 10;
+    private ProductSortType sort = ProductSortType.CREATED_AT_DESC;
+}
@@ -0,0 +1,31 @@
+package com.handy.appserver.dto;
+
+import com.handy.appserver.entity.product.ProductShape;
+import com.handy.appserver.entity.product.ProductSize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ProductFilterResponse {
+    private List<ProductListResponse> data;
+    private long total;
+    private int page;
+    private int size;
+    private Facets facets; // 필터 결과의 항목별 상품 수 (null이면 집계 불가)
+
+    /**
+     * 각 항목의 건수는 해당 항목 자신의 조건만 제외하고 나머지 조건을 모두 적용한 결과
+     * (예: 모양을 ROUND로 선택해도 다른 모양의 건수를 함께 보여줄 수 있음)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Facets {
+        private Map<ProductShape, Integer> shapes;
+        private Map<ProductSize, Integer> sizes;
+        private int customAvailable;
+    }
+}
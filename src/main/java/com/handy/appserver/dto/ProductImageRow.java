@@ -0,0 +1,17 @@
+package com.handy.appserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 목록 조회용 상세 이미지 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class ProductImageRow {
+    private final Long productId;
+    private final Long id;
+    private final String imageUrl;
+    private final boolean thumbnailReady;
+    private final Integer imageOrder;
+}
@@ -0,0 +1,25 @@
+package com.handy.appserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 일괄 등록 행별 결과
+ * row는 입력 파일 기준 1부터 시작 (CSV는 헤더 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductImportResult {
+    private long row;
+    private boolean success;
+    private Long productId;
+    private String error;
+
+    public static ProductImportResult success(long row, Long productId) {
+        return new ProductImportResult(row, true, productId, null);
+    }
+
+    public static ProductImportResult failure(long row, String error) {
+        return new ProductImportResult(row, false, null, error);
+    }
+}
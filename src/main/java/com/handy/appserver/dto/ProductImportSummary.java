@@ -0,0 +1,16 @@
+package com.handy.appserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 일괄 등록 전체 결과 (행별 결과 다음 마지막 줄로 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductImportSummary {
+    private long total;
+    private long succeeded;
+    private long failed;
+    private long tookMillis;
+}
@@ -1,11 +1,9 @@
 package com.handy.appserver.dto;
 
-import com.handy.appserver.entity.product.Product;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
 @Setter
@@ -14,13 +12,19 @@ public class ProductListPageResponse {
     private long total;
     private int page;
     private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
 
-    public ProductListPageResponse(List<Product> products, long total, int page, int size) {
-        this.data = products.stream()
-                .map(ProductListResponse::new)
-                .collect(Collectors.toList());
+    public ProductListPageResponse(List<ProductListResponse> data, long total, int page, int size) {
+        this(data, total, page, size, null);
+    }
+
+    public ProductListPageResponse(List<ProductListResponse> data, long total, int page, int size, String nextCursor) {
+        this.data = data;
         this.total = total;
         this.page = page;
         this.size = size;
+        this.hasNext = nextCursor != null;
+        this.nextCursor = nextCursor;
     }
 } 
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.handy.appserver.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.handy.appserver.entity.product.Product;
 import com.handy.appserver.entity.product.ProductImage;
+import com.handy.appserver.storage.Thumbnails;
 import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -15,18 +18,22 @@ public class ProductListResponse {
     private final String name;
     private final String description;
     private final String mainImageUrl;
+    private final String mainThumbnailUrl;  // 목록용 썸네일 (아직 생성되지 않았으면 null, 원본 사용)
     private final BigDecimal price;
     private final Integer productionDays;
     private final boolean isActive;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
     private final List<ProductImageResponse> detailImages;
+    @JsonIgnore
+    private final double recommendScore; // 추천순 커서/정렬용 (응답에는 포함하지 않음)
 
     public ProductListResponse(Product product) {
         this.id = product.getId();
         this.name = product.getName();
         this.description = product.getDescription();
         this.mainImageUrl = product.getMainImageUrl();
+        this.mainThumbnailUrl = Thumbnails.urlFor(mainImageUrl, product.isMainThumbnailReady(), Thumbnails.LIST_WIDTH);
         this.price = product.getPrice();
         this.productionDays = product.getProductionDays();
         this.isActive = product.isActive();
@@ -35,18 +42,55 @@ public class ProductListResponse {
         this.detailImages = product.getDetailImages().stream()
                 .map(ProductImageResponse::new)
                 .collect(Collectors.toList());
+        this.recommendScore = product.getRecommendScore();
+    }
+
+    public ProductListResponse(ProductListRow row, List<ProductImageResponse> detailImages) {
+        this.id = row.getId();
+        this.name = row.getName();
+        this.description = row.getDescription();
+        this.mainImageUrl = row.getMainImageUrl();
+        this.mainThumbnailUrl = Thumbnails.urlFor(mainImageUrl, row.isMainThumbnailReady(), Thumbnails.LIST_WIDTH);
+        this.price = row.getPrice();
+        this.productionDays = row.getProductionDays();
+        this.isActive = row.isActive();
+        this.createdAt = row.getCreatedAt();
+        this.updatedAt = row.getUpdatedAt();
+        this.detailImages = detailImages;
+        this.recommendScore = row.getRecommendScore();
+    }
+
+    /**
+     * 목록 프로젝션과 상세 이미지 프로젝션을 상품별로 묶어 응답 생성 (rows 순서 유지)
+     */
+    public static List<ProductListResponse> fromRows(List<ProductListRow> rows, List<ProductImageRow> imageRows) {
+        Map<Long, List<ProductImageResponse>> imagesByProduct = imageRows.stream()
+                .collect(Collectors.groupingBy(ProductImageRow::getProductId,
+                        Collectors.mapping(ProductImageResponse::new, Collectors.toList())));
+        return rows.stream()
+                .map(row -> new ProductListResponse(row, imagesByProduct.getOrDefault(row.getId(), List.of())))
+                .collect(Collectors.toList());
     }
 
     @Getter
     public static class ProductImageResponse {
         private final Long id;
         private final String imageUrl;
+        private final String thumbnailUrl;
         private final int order;
 
         public ProductImageResponse(ProductImage productImage) {
             this.id = productImage.getId();
             this.imageUrl = productImage.getImageUrl();
+            this.thumbnailUrl = Thumbnails.urlFor(imageUrl, productImage.isThumbnailReady(), Thumbnails.LIST_WIDTH);
             this.order = productImage.getImageOrder();
         }
+
+        public ProductImageResponse(ProductImageRow row) {
+            this.id = row.getId();
+            this.imageUrl = row.getImageUrl();
+            this.thumbnailUrl = Thumbnails.urlFor(imageUrl, row.isThumbnailReady(), Thumbnails.LIST_WIDTH);
+            this.order = row.getImageOrder() != null ? row.getImageOrder() : 0;
+        }
     }
 } 
\ No newline at end of file
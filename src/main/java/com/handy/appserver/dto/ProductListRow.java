@@ -0,0 +1,27 @@
+package com.handy.appserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 조회용 프로젝션
+ * 엔티티 대신 목록에 표시되는 컬럼만 조회하므로 영속성 컨텍스트/스냅샷 비용이 없음
+ */
+@Getter
+@AllArgsConstructor
+public class ProductListRow {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final String mainImageUrl;
+    private final boolean mainThumbnailReady;
+    private final BigDecimal price;
+    private final Integer productionDays;
+    private final boolean active;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final double recommendScore;
+}
@@ -11,4 +11,5 @@ public class ProductSearchRequest {
     private int page = 1;
     private int size = 10;
     private ProductSortType sort = ProductSortType.CREATED_AT_DESC;
+    private String cursor; // 이전 응답의 nextCursor (지정 시 page 대신 커서 기준으로 조회)
 } 
\ No newline at end of file
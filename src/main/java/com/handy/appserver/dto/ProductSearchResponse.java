@@ -15,13 +15,19 @@ public class ProductSearchResponse {
     private long total;
     private int page;
     private int size;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
 
     public static ProductSearchResponse from(Page<ProductListResponse> page) {
+        return from(page, null);
+    }
+
+    public static ProductSearchResponse from(Page<ProductListResponse> page, String nextCursor) {
         return new ProductSearchResponse(
             page.getContent(),
             page.getTotalElements(),
             page.getNumber() + 1, // Spring Data Page는 0부터 시작하므로 1을 더함
-            page.getSize()
+            page.getSize(),
+            nextCursor
         );
     }
 } 
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.handy.appserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductSuggestionResponse {
+    private Long id;
+    private String name;
+}
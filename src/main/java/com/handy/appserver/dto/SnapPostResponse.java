@@ -16,6 +16,7 @@ public class SnapPostResponse {
     private String userName;
     private String userProfileImage;
     private List<String> images;
+    private List<String> thumbnails;  // images와 같은 순서, 썸네일이 없는 이미지는 null
     private boolean isLiked;
     private int likeCount;
     private LocalDateTime createdAt;
@@ -18,6 +18,7 @@ public class SnapPostWithLikeInfoResponse {
     private String userName;
     private String userProfileImage;
     private List<String> images;
+    private List<String> thumbnails;  // images와 같은 순서, 썸네일이 없는 이미지는 null
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Long likeCount;
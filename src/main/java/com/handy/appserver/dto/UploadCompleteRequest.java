@@ -0,0 +1,10 @@
+package com.handy.appserver.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UploadCompleteRequest {
+    private String imageUrl; // presigned URL로 업로드를 마친 이미지 URL (쿼리 제외)
+}
@@ -0,0 +1,11 @@
+package com.handy.appserver.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UploadFileRequest {
+    private String fileName;
+    private boolean main;     // 대표 이미지 여부
+}
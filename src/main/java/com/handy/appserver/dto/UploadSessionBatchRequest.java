@@ -0,0 +1,13 @@
+package com.handy.appserver.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class UploadSessionBatchRequest {
+    private Long productId;   // 기존 상품 또는 앞선 세션에서 받은 상품 ID (새 상품이면 비움)
+    private List<UploadFileRequest> files;
+}
@@ -0,0 +1,12 @@
+package com.handy.appserver.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UploadSessionRequest {
+    private Long productId;   // 기존 상품 또는 앞선 세션에서 받은 상품 ID (새 상품의 첫 이미지면 비움)
+    private boolean main;     // 대표 이미지 여부 (상품 이미지만)
+    private String fileName;
+}
@@ -0,0 +1,12 @@
+package com.handy.appserver.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UploadSessionResponse {
+    private Long productId;       // 상품 이미지면 이 key가 속한 상품 ID (새 상품 등록 시 그대로 전달)
+    private String imageUrl;      // 업로드 후 상품/프로필 저장 요청에 그대로 보낼 URL
+    private String presignedUrl;
+}
@@ -1,6 +1,7 @@
 package com.handy.appserver.entity.cart;
 
 import com.handy.appserver.entity.common.BaseTimeEntity;
+import com.handy.appserver.entity.common.SnowflakeId;
 import com.handy.appserver.entity.product.Product;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -13,7 +14,7 @@ import lombok.NoArgsConstructor;
 public class CartItem extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.handy.appserver.entity.comment;
 
 import com.handy.appserver.entity.common.BaseTimeEntity;
+import com.handy.appserver.entity.common.SnowflakeId;
 import com.handy.appserver.entity.snap.SnapPost;
 import com.handy.appserver.entity.user.User;
 import jakarta.persistence.*;
@@ -19,7 +20,7 @@ import java.util.List;
 public class Comment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     // 댓글 내용
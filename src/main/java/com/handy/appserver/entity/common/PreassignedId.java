@@ -0,0 +1,10 @@
+package com.handy.appserver.entity.common;
+
+/**
+ * 저장 전에 미리 발급해 둔 Snowflake ID를 쓰는 엔티티 (업로드 세션이 최종 key 경로에 ID를 먼저 사용하는 경우)
+ * ID 필드는 비워 둔 채 새 엔티티로 저장되고, SnowflakeIdentifierGenerator가 새로 발급하는 대신 이 값을 사용
+ */
+public interface PreassignedId {
+
+    Long getPreassignedId();
+}
@@ -0,0 +1,25 @@
+package com.handy.appserver.entity.common;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * @SnowflakeId 엔티티의 Hibernate ID 생성기 (PreassignedId 엔티티에 미리 발급한 ID가 있으면 그 값을 사용)
+ * hibernate.cdi.extensions 설정으로 Hibernate가 스프링 빈 컨테이너를 통해 생성하므로 SnowflakeIdGenerator 빈을 주입받음
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    private final SnowflakeIdGenerator idGenerator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (object instanceof PreassignedId entity && entity.getPreassignedId() != null) {
+            return entity.getPreassignedId();
+        }
+        return idGenerator.nextId();
+    }
+}
@@ -0,0 +1,62 @@
+package com.handy.appserver.entity.image;
+
+import com.handy.appserver.entity.common.BaseTimeEntity;
+import com.handy.appserver.entity.common.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이미지 확정 작업
+ * DB 트랜잭션에서는 작업만 기록하고, S3 복사/삭제와 URL 갱신은 커밋 이후 ImageFinalizationWorker가 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_finalization_jobs",
+        indexes = @Index(name = "idx_image_jobs_status_next", columnList = "status, next_attempt_at"))
+public class ImageFinalizationJob extends BaseTimeEntity {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImageJobType type;
+
+    // 상품 ID 또는 사용자 ID (최종 key 경로에 사용)
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    // 상세 이미지 ID (PRODUCT_DETAIL만)
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Column(name = "source_url", nullable = false, length = 1024)
+    private String sourceUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImageJobStatus status = ImageJobStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public ImageFinalizationJob(ImageJobType type, Long ownerId, Long targetId, String sourceUrl) {
+        this.type = type;
+        this.ownerId = ownerId;
+        this.targetId = targetId;
+        this.sourceUrl = sourceUrl;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,8 @@
+package com.handy.appserver.entity.image;
+
+public enum ImageJobStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
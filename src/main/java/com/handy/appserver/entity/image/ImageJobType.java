@@ -0,0 +1,11 @@
+package com.handy.appserver.entity.image;
+
+public enum ImageJobType {
+    PRODUCT_MAIN,      // 임시 이미지 → products/{id}/main, products.main_image_url 갱신
+    PRODUCT_DETAIL,    // 임시 이미지 → products/{id}/details, product_images.image_url 갱신
+    USER_PROFILE,      // 임시 이미지 → users/{id}/profile, users.profile_image_url 갱신
+    SNAP_IMAGE,        // 임시 이미지 → snaps/{id}, snap_image.image_url 갱신
+    ARCHIVE_PROFILE,   // 교체된 프로필 이미지를 temp 폴더로 옮겨 보관
+    THUMBNAILS,        // 업로드 세션으로 최종 key에 바로 올린 이미지의 썸네일 생성 (복사/URL 갱신 없음)
+    DELETE             // 더 이상 참조하지 않는 이미지 삭제
+}
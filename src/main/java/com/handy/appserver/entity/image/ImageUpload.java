@@ -0,0 +1,69 @@
+package com.handy.appserver.entity.image;
+
+import com.handy.appserver.entity.common.BaseTimeEntity;
+import com.handy.appserver.entity.common.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급한 presigned 업로드 기록
+ * 이미지를 등록할 때 S3를 뒤지는 대신 이 기록으로 발급 대상/업로드 완료 여부를 확인
+ * 최종 key에 바로 올리는 업로드(PRODUCT, PROFILE)는 만료될 때까지 ATTACHED가 되지 않으면 파일도 함께 정리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "image_uploads",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_uploads_object_key", columnNames = "object_key"),
+        indexes = {
+                @Index(name = "idx_image_uploads_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_image_uploads_target_owner", columnList = "target, owner_id")
+        })
+public class ImageUpload extends BaseTimeEntity {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImageUploadTarget target;
+
+    // 최종 key 경로의 상품 ID 또는 사용자 ID (TEMP는 null)
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImageUploadStatus status = ImageUploadStatus.ISSUED;
+
+    // presigned URL 만료 시각
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "confirmed_at")
+    private LocalDateTime confirmedAt;
+
+    public ImageUpload(String objectKey, Long userId, ImageUploadTarget target, Long ownerId, LocalDateTime expiresAt) {
+        this.objectKey = objectKey;
+        this.userId = userId;
+        this.target = target;
+        this.ownerId = ownerId;
+        this.expiresAt = expiresAt;
+    }
+
+    // 참조 저장된 업로드도 업로드가 끝난 것으로 봄
+    public boolean isConfirmed() {
+        return status != ImageUploadStatus.ISSUED;
+    }
+}
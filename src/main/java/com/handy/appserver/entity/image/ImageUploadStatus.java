@@ -0,0 +1,7 @@
+package com.handy.appserver.entity.image;
+
+public enum ImageUploadStatus {
+    ISSUED,
+    CONFIRMED,
+    ATTACHED     // 상품/프로필이 참조하도록 저장됨 (만료 후에도 지우지 않음)
+}
@@ -0,0 +1,7 @@
+package com.handy.appserver.entity.image;
+
+public enum ImageUploadTarget {
+    TEMP,      // temp/ 에 올린 뒤 이미지 확정 작업이 최종 폴더로 복사
+    PRODUCT,   // products/{id}/main 또는 details 에 바로 업로드
+    PROFILE    // users/{id}/profile 에 바로 업로드
+}
@@ -1,5 +1,6 @@
 package com.handy.appserver.entity.like;
 import com.handy.appserver.entity.common.BaseTimeEntity;
+import com.handy.appserver.entity.common.SnowflakeId;
 import com.handy.appserver.entity.user.User;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -15,7 +16,7 @@ import lombok.Setter;
 public class Like extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     // 좋아요 누른 사용자
@@ -0,0 +1,47 @@
+package com.handy.appserver.entity.outbox;
+
+import com.handy.appserver.entity.common.SnowflakeId;
+import com.handy.appserver.event.ProductChangedEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 변경 아웃박스
+ * 상품 생성/수정/비활성화와 같은 트랜잭션에서 기록되고, 각 서버의 ProductOutboxTailer가 읽어 인메모리 인덱스에 반영
+ * ID가 시간순(Snowflake)이므로 ID 범위로 최근 변경을 조회
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_change_outbox")
+public class ProductChangeOutbox {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ProductChangedEvent.ChangeType changeType;
+
+    // 변경을 기록한 서버 프로세스 (ProductOutboxOrigin, 자기 서버 변경은 이미 반영되어 있으므로 건너뜀)
+    @Column(name = "origin_node", nullable = false)
+    private long originNode;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public ProductChangeOutbox(Long productId, ProductChangedEvent.ChangeType changeType, long originNode) {
+        this.productId = productId;
+        this.changeType = changeType;
+        this.originNode = originNode;
+        this.createdAt = LocalDateTime.now();
+    }
+}
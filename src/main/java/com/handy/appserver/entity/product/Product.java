@@ -1,35 +1,50 @@
 package com.handy.appserver.entity.product;
 
 import com.handy.appserver.entity.common.BaseTimeEntity;
+import com.handy.appserver.entity.common.PreassignedId;
+import com.handy.appserver.entity.common.SnowflakeId;
 import com.handy.appserver.entity.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "products")
-public class Product extends BaseTimeEntity {
+@Table(name = "products",
+        indexes = @Index(name = "idx_products_active_recommend", columnList = "is_active, recommend_score, id"))
+public class Product extends BaseTimeEntity implements PreassignedId {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
+    // 업로드 세션에서 미리 발급한 상품 ID (저장할 때 ID로 사용)
+    @Transient
+    private Long preassignedId;
+
     @Column(nullable = false)
     private String name;
 
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Setter
     @Column(name = "main_image_url", nullable = false)
     private String mainImageUrl;
 
+    // 대표 이미지의 목록용 썸네일 생성 완료 여부 (이미지가 바뀌면 다시 생성될 때까지 false)
+    @Column(name = "main_thumbnail_ready", nullable = false)
+    private boolean mainThumbnailReady;
+
+    // 목록 조회 시 상품마다 지연 로딩하지 않도록 페이지 단위로 IN 쿼리 한 번에 로딩
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("id ASC")
     private List<ProductImage> detailImages = new ArrayList<>();
@@ -61,6 +76,7 @@ public class Product extends BaseTimeEntity {
     @JoinColumn(name = "seller_id", nullable = false)
     private User seller;
 
+    @BatchSize(size = 100)
     @ManyToMany
     @JoinTable(
         name = "product_categories",
@@ -72,6 +88,10 @@ public class Product extends BaseTimeEntity {
     @Column(name = "is_active", nullable = false)
     private boolean isActive = true;
 
+    // 추천순 정렬 점수 (등록 시 최신성만 반영, 이후 ProductRankingService가 주문/장바구니 수로 갱신)
+    @Column(name = "recommend_score", nullable = false)
+    private double recommendScore;
+
     @Builder
     public Product(String name, String description, String mainImageUrl, ProductShape shape, boolean shapeChangeable,
                   ProductSize size, boolean sizeChangeable,
@@ -87,6 +107,21 @@ public class Product extends BaseTimeEntity {
         this.productionDays = productionDays;
         this.customAvailable = customAvailable;
         this.seller = seller;
+        this.recommendScore = RecommendScore.of(0, 0, LocalDateTime.now());
+    }
+
+    /**
+     * 업로드 세션에서 미리 발급한 ID로 저장 (저장 전에만 호출)
+     */
+    public void preassignId(Long preassignedId) {
+        this.preassignedId = preassignedId;
+    }
+
+    public void setMainImageUrl(String mainImageUrl) {
+        if (!Objects.equals(this.mainImageUrl, mainImageUrl)) {
+            this.mainThumbnailReady = false;
+        }
+        this.mainImageUrl = mainImageUrl;
     }
 
     public void update(String name, String description, String mainImageUrl, ProductShape shape, boolean shapeChangeable,
@@ -94,7 +129,7 @@ public class Product extends BaseTimeEntity {
                       BigDecimal price, Integer productionDays, boolean customAvailable) {
         this.name = name;
         this.description = description;
-        this.mainImageUrl = mainImageUrl;
+        setMainImageUrl(mainImageUrl);
         this.shape = shape;
         this.shapeChangeable = shapeChangeable;
         this.size = size;
@@ -1,6 +1,7 @@
 package com.handy.appserver.entity.product;
 
 import com.handy.appserver.entity.common.BaseTimeEntity;
+import com.handy.appserver.entity.common.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,7 +12,7 @@ import lombok.*;
 public class ProductImage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false)
@@ -20,6 +21,10 @@ public class ProductImage extends BaseTimeEntity {
     @Column(nullable = true)
     private String description;
 
+    // 목록용 썸네일 생성 완료 여부 (이미지가 바뀌면 다시 생성될 때까지 false)
+    @Column(name = "thumbnail_ready", nullable = false)
+    private boolean thumbnailReady;
+
     @Setter
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
@@ -37,9 +42,19 @@ public class ProductImage extends BaseTimeEntity {
     }
 
     public void updateImageUrl(String imageUrl) {
+        if (!java.util.Objects.equals(this.imageUrl, imageUrl)) {
+            this.thumbnailReady = false;
+        }
         this.imageUrl = imageUrl;
     }
 
+    /**
+     * 썸네일이 이미 있는 이미지를 새 상세 이미지로 다시 등록할 때 (상품 수정 시 유지되는 이미지)
+     */
+    public void markThumbnailReady() {
+        this.thumbnailReady = true;
+    }
+
     public void updateDescription(String description) {
         this.description = description;
     }
@@ -5,7 +5,7 @@ public enum ProductSortType {
     UPDATED_AT_DESC("updatedAt", "desc"),  // 업데이트순
     PRICE_ASC("price", "asc"),             // 가격 낮은순
     PRICE_DESC("price", "desc"),           // 가격 높은순
-    RECOMMEND("recommend", "desc");        // 추천순
+    RECOMMEND("recommendScore", "desc");   // 추천순
 
     private final String field;
     private final String direction;
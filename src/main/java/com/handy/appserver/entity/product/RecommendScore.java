@@ -0,0 +1,28 @@
+package com.handy.appserver.entity.product;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 추천순 점수
+ * log10(1 + 인기도) + 등록 시각(초) / RECENCY_SECONDS
+ * - 등록 시각 항은 상품마다 고정이므로 주문/장바구니 수가 바뀐 상품만 점수가 달라짐
+ * - 3일 늦게 등록된 상품을 앞서려면 인기도가 10배 높아야 함
+ * - 소수점 6자리로 반올림해 같은 입력이면 항상 같은 값이 되도록 함 (부동소수점 오차로 인한 불필요한 UPDATE 방지)
+ */
+public final class RecommendScore {
+
+    private static final double ORDER_WEIGHT = 3.0;   // 주문 수량 1개당
+    private static final double CART_WEIGHT = 1.0;    // 장바구니 담기 1건당
+    private static final double RECENCY_SECONDS = 3 * 24 * 60 * 60;
+    private static final double SCALE = 1_000_000;
+
+    private RecommendScore() {
+    }
+
+    public static double of(long orderQuantity, long cartAdds, LocalDateTime createdAt) {
+        double popularity = ORDER_WEIGHT * orderQuantity + CART_WEIGHT * cartAdds;
+        long epochSeconds = createdAt.toEpochSecond(ZoneOffset.UTC);
+        return Math.round((Math.log10(1 + popularity) + epochSeconds / RECENCY_SECONDS) * SCALE) / SCALE;
+    }
+}
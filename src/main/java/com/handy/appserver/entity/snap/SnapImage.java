@@ -1,5 +1,6 @@
 package com.handy.appserver.entity.snap;
 
+import com.handy.appserver.entity.common.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,15 +9,26 @@ import lombok.Setter;
 public class SnapImage {
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Getter
-    @Setter
     private String imageUrl;
 
+    // 목록용 썸네일 생성 완료 여부 (이미지가 바뀌면 다시 생성될 때까지 false)
+    @Getter
+    @Column(name = "thumbnail_ready", nullable = false)
+    private boolean thumbnailReady;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "snap_post_id")
     @Setter
     private SnapPost snapPost;
+
+    public void setImageUrl(String imageUrl) {
+        if (!java.util.Objects.equals(this.imageUrl, imageUrl)) {
+            this.thumbnailReady = false;
+        }
+        this.imageUrl = imageUrl;
+    }
 }
@@ -11,7 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "snap_posts")
+@Table(name = "snap_posts",
+        indexes = @Index(name = "idx_snap_posts_updated_at", columnList = "updated_at"))
 @Getter
 @Setter
 public class SnapPost extends BaseTimeEntity {
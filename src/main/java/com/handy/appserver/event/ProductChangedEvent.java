@@ -0,0 +1,68 @@
+package com.handy.appserver.event;
+
+import com.handy.appserver.entity.product.Category;
+import com.handy.appserver.entity.product.Product;
+import com.handy.appserver.entity.product.ProductShape;
+import com.handy.appserver.entity.product.ProductSize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 생성/수정/비활성화 이벤트
+ * 트랜잭션 커밋 이후 인메모리 인덱스들이 DB 재조회 없이 반영할 수 있도록 변경 시점의 상품 스냅샷을 함께 전달
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DEACTIVATED
+    }
+
+    private final ChangeType type;
+    private final Long productId;
+    private final String name;
+    private final String description;
+    private final String mainImageUrl;
+    private final BigDecimal price;
+    private final ProductShape shape;
+    private final ProductSize size;
+    private final Integer productionDays;
+    private final boolean customAvailable;
+    private final boolean active;
+    private final Long sellerId;
+    private final List<Long> categoryIds;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final double recommendScore;
+
+    public static ProductChangedEvent of(ChangeType type, Product product) {
+        return new ProductChangedEvent(
+            type,
+            product.getId(),
+            product.getName(),
+            product.getDescription(),
+            product.getMainImageUrl(),
+            product.getPrice(),
+            product.getShape(),
+            product.getSize(),
+            product.getProductionDays(),
+            product.isCustomAvailable(),
+            product.isActive(),
+            product.getSeller().getId(),
+            product.getCategories().stream()
+                    .map(Category::getId)
+                    .collect(Collectors.toList()),
+            product.getCreatedAt(),
+            product.getUpdatedAt(),
+            product.getRecommendScore()
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.handy.appserver.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스냅 게시글 생성/변경 이벤트
+ * 트랜잭션 커밋 이후 스냅 제목 검색 색인에 반영하는 데 사용
+ */
+@Getter
+@AllArgsConstructor
+public class SnapPostChangedEvent {
+    private final Long snapPostId;
+    private final String title;
+    private final boolean active;
+}
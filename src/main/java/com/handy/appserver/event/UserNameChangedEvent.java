@@ -0,0 +1,16 @@
+package com.handy.appserver.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 이름 변경 이벤트
+ * 판매자 이름이 포함된 캐시(상품 상세 등)를 커밋 이후 무효화하는 데 사용
+ * 다른 서버에는 ProductOutboxRecorder가 판매자의 상품 변경으로 기록해 전달
+ */
+@Getter
+@AllArgsConstructor
+public class UserNameChangedEvent {
+    private final Long userId;
+    private final String name;
+}
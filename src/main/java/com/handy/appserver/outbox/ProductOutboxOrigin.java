@@ -0,0 +1,20 @@
+package com.handy.appserver.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 이 서버 프로세스가 기록한 아웃박스를 구분하는 값
+ * 노드 ID는 설정 실수로 겹칠 수 있으므로 쓰지 않고, 시작할 때마다 새로 정하는 임의 값을 사용
+ * (재시작 전 자기 변경은 인덱스를 DB에서 다시 만들 때 이미 반영되므로 다시 읽어도 문제 없음)
+ */
+@Component
+public class ProductOutboxOrigin {
+
+    private final long id = UUID.randomUUID().getMostSignificantBits();
+
+    public long id() {
+        return id;
+    }
+}
@@ -0,0 +1,49 @@
+package com.handy.appserver.outbox;
+
+import com.handy.appserver.entity.outbox.ProductChangeOutbox;
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.event.UserNameChangedEvent;
+import com.handy.appserver.repository.ProductChangeOutboxRepository;
+import com.handy.appserver.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 상품 변경 이벤트를 발행한 트랜잭션 안에서 아웃박스에 기록 (상품 변경과 함께 커밋/롤백)
+ * 트랜잭션 밖에서 발행된 이벤트(다른 서버 변경을 재발행한 경우)는 기록하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductOutboxRecorder {
+
+    private final ProductChangeOutboxRepository outboxRepository;
+    private final ProductRepository productRepository;
+    private final ProductOutboxOrigin origin;
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        outboxRepository.save(new ProductChangeOutbox(event.getProductId(), event.getType(), origin.id()));
+    }
+
+    /**
+     * 판매자 이름이 바뀌면 그 판매자의 상품을 모두 수정으로 기록
+     * 다른 서버가 상품을 다시 읽어 반영하면서 상품 상세 캐시에 든 이전 판매자 이름도 무효화됨 (이름 변경은 드물어 상품 수만큼 기록해도 부담이 적음)
+     */
+    @EventListener
+    public void onUserNameChanged(UserNameChangedEvent event) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        List<ProductChangeOutbox> entries = productRepository.findIdsBySellerId(event.getUserId()).stream()
+                .map(productId -> new ProductChangeOutbox(productId, ProductChangedEvent.ChangeType.UPDATED, origin.id()))
+                .toList();
+        outboxRepository.saveAll(entries);
+    }
+}
@@ -0,0 +1,154 @@
+package com.handy.appserver.outbox;
+
+import com.handy.appserver.entity.common.SnowflakeIdGenerator;
+import com.handy.appserver.entity.product.Product;
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.repository.ProductChangeOutboxRepository;
+import com.handy.appserver.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 다른 서버의 상품 변경을 아웃박스에서 읽어 이 서버의 인메모리 인덱스/캐시에 반영
+ * - 짧은 주기로 체크포인트 이후의 아웃박스를 ID 순으로 읽고, 바뀐 상품의 현재 상태를 한 번에 조회해 ProductChangedEvent로 재발행
+ * - 커밋 순서와 ID 순서가 다를 수 있으므로 최근 lookback 구간은 매번 다시 읽고, 이미 처리한 아웃박스 ID는 건너뜀
+ * - 항상 현재 상태를 다시 읽어 반영하므로 같은 상품 변경이 중복/역순으로 들어와도 최종 상태는 같음
+ * - 체크포인트는 인덱스와 같이 메모리에만 둠 (재시작 시 인덱스를 DB에서 다시 만들고, 그 시점부터 이어서 읽음)
+ */
+@Slf4j
+@Component
+public class ProductOutboxTailer {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final ProductChangeOutboxRepository outboxRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final long originId;
+    private final long lookbackMillis;
+    private final long retentionMillis;
+
+    // 마지막으로 처리한 아웃박스 ID와 lookback 구간 안에서 이미 처리한 ID
+    private long checkpoint;
+    private final TreeSet<Long> seen = new TreeSet<>();
+    private volatile boolean started = false;
+
+    public ProductOutboxTailer(ProductChangeOutboxRepository outboxRepository,
+                               ProductRepository productRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               ProductOutboxOrigin origin,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${outbox.product.lookback-ms:10000}") long lookbackMillis,
+                               @Value("${outbox.product.retention-ms:86400000}") long retentionMillis) {
+        this.outboxRepository = outboxRepository;
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.originId = origin.id();
+        this.lookbackMillis = lookbackMillis;
+        this.retentionMillis = retentionMillis;
+        // 인덱스 재구축(ApplicationReadyEvent)보다 앞선 시점부터 읽어 재구축 중 변경도 놓치지 않음
+        this.checkpoint = SnowflakeIdGenerator.minIdAt(System.currentTimeMillis() - lookbackMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        started = true;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.product.poll-interval-ms:500}")
+    public synchronized void poll() {
+        if (!started) {
+            return;
+        }
+        try {
+            Batch batch = read();
+            if (!batch.productIds().isEmpty()) {
+                apply(batch.productIds());
+            }
+            // 반영이 끝난 뒤에 처리 완료로 기록 (반영 중 실패하면 다음 주기에 같은 구간을 다시 읽음)
+            seen.addAll(batch.outboxIds());
+            checkpoint = batch.checkpoint();
+        } catch (RuntimeException e) {
+            log.error("Product outbox poll failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.product.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        long beforeId = SnowflakeIdGenerator.minIdAt(System.currentTimeMillis() - retentionMillis);
+        try {
+            Integer deleted = writeTransaction.execute(status -> outboxRepository.deleteByIdLessThan(beforeId));
+            log.debug("Product outbox cleaned up - deleted: {}", deleted);
+        } catch (RuntimeException e) {
+            log.error("Product outbox cleanup failed", e);
+        }
+    }
+
+    private Batch read() {
+        long from = Math.min(checkpoint, SnowflakeIdGenerator.minIdAt(System.currentTimeMillis() - lookbackMillis));
+        seen.headSet(from, true).clear();
+
+        Set<Long> productIds = new LinkedHashSet<>();
+        List<Long> outboxIds = new ArrayList<>();
+        long newCheckpoint = checkpoint;
+        while (true) {
+            long afterId = from;
+            List<Object[]> rows = readTransaction.execute(status ->
+                    outboxRepository.findRowsAfter(afterId, PageRequest.of(0, PAGE_SIZE)));
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                if (!seen.contains(id)) {
+                    outboxIds.add(id);
+                    if (((Number) row[2]).longValue() != originId) {
+                        productIds.add((Long) row[1]);
+                    }
+                }
+                newCheckpoint = Math.max(newCheckpoint, id);
+            }
+            if (rows.size() < PAGE_SIZE) {
+                break;
+            }
+            from = (Long) rows.get(rows.size() - 1)[0];
+        }
+        return new Batch(productIds, outboxIds, newCheckpoint);
+    }
+
+    private void apply(Set<Long> productIds) {
+        List<ProductChangedEvent> events = readTransaction.execute(status -> {
+            List<ProductChangedEvent> loaded = new ArrayList<>();
+            for (Product product : productRepository.findAllById(productIds)) {
+                ProductChangedEvent.ChangeType type = product.isActive()
+                        ? ProductChangedEvent.ChangeType.UPDATED
+                        : ProductChangedEvent.ChangeType.DEACTIVATED;
+                loaded.add(ProductChangedEvent.of(type, product));
+            }
+            return loaded;
+        });
+        // 트랜잭션 밖에서 발행하므로 각 리스너가 바로 반영하고 아웃박스에는 다시 기록되지 않음
+        events.forEach(eventPublisher::publishEvent);
+        log.debug("Product outbox applied - products: {}", events.size());
+    }
+
+    /**
+     * @param productIds 다른 서버에서 바뀐 상품 ID
+     * @param outboxIds 이번에 새로 읽은 아웃박스 ID
+     * @param checkpoint 읽은 아웃박스 중 가장 큰 ID
+     */
+    private record Batch(Set<Long> productIds, List<Long> outboxIds, long checkpoint) {
+    }
+}
@@ -17,4 +17,8 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     @Modifying
     @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId")
     void deleteByCartId(Long cartId);
+
+    // 상품별 장바구니 담긴 건수 (추천 점수 계산용)
+    @Query("SELECT ci.product.id, COUNT(ci) FROM CartItem ci GROUP BY ci.product.id")
+    List<Object[]> countGroupByProductId();
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
@@ -17,4 +18,12 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     
     @Query("SELECT c FROM Category c LEFT JOIN FETCH c.products WHERE c.id = :id")
     Category findByIdWithProducts(@Param("id") Long id);
+
+    // 카테고리 트리 구성용 (id, 이름, 상위 카테고리 id)
+    @Query("SELECT c.id, c.name, p.id FROM Category c LEFT JOIN c.parent p")
+    List<Object[]> findAllTreeRows();
+
+    // 주어진 ID 중 존재하는 카테고리 ID (일괄 등록 검증용)
+    @Query("SELECT c.id FROM Category c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 } 
\ No newline at end of file
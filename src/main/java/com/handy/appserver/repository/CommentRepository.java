@@ -5,6 +5,7 @@ import com.handy.appserver.entity.snap.SnapPost;
 import com.handy.appserver.entity.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,7 +15,9 @@ import java.util.List;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // 스냅 포스트의 최상위 댓글들 조회 (답글 제외)
-    Page<Comment> findBySnapPostAndParentIsNullAndIsActiveTrueOrderByCreatedAtDesc(SnapPost snapPost, Pageable pageable);
+    Slice<Comment> findBySnapPostAndParentIsNullAndIsActiveTrueOrderByCreatedAtDesc(SnapPost snapPost, Pageable pageable);
+
+    long countBySnapPostAndParentIsNullAndIsActiveTrue(SnapPost snapPost);
 
     // 특정 댓글의 답글들 조회
     List<Comment> findByParentAndIsActiveTrueOrderByCreatedAtAsc(Comment parent);
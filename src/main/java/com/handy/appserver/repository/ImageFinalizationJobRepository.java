@@ -0,0 +1,47 @@
+package com.handy.appserver.repository;
+
+import com.handy.appserver.entity.image.ImageFinalizationJob;
+import com.handy.appserver.entity.image.ImageJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageFinalizationJobRepository extends JpaRepository<ImageFinalizationJob, Long> {
+
+    // 처리할 차례가 된 작업 ID (대기 중이거나, 처리 중에 서버가 멈춰 점유 시간이 지난 작업)
+    @Query("SELECT j FROM ImageFinalizationJob j WHERE j.status IN :statuses AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt")
+    List<ImageFinalizationJob> findDue(@Param("statuses") Collection<ImageJobStatus> statuses,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    // 작업 점유 (다른 스레드/서버가 먼저 가져갔으면 0)
+    @Modifying
+    @Query("UPDATE ImageFinalizationJob j SET j.status = :processing, j.attempts = j.attempts + 1, j.nextAttemptAt = :leaseUntil " +
+           "WHERE j.id = :id AND j.status IN :statuses AND j.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("statuses") Collection<ImageJobStatus> statuses,
+              @Param("processing") ImageJobStatus processing,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE ImageFinalizationJob j SET j.status = :status, j.nextAttemptAt = :nextAttemptAt, j.lastError = :lastError WHERE j.id = :id")
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") ImageJobStatus status,
+                     @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                     @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("DELETE FROM ImageFinalizationJob j WHERE j.status = :status AND j.nextAttemptAt < :before")
+    int deleteByStatusBefore(@Param("status") ImageJobStatus status, @Param("before") LocalDateTime before);
+
+    // 아직 끝나지 않은 작업의 원본 URL (임시 폴더 정리 시 보호)
+    @Query("SELECT j.sourceUrl FROM ImageFinalizationJob j WHERE j.status IN :statuses")
+    List<String> findSourceUrlsByStatusIn(@Param("statuses") Collection<ImageJobStatus> statuses);
+}
@@ -0,0 +1,58 @@
+package com.handy.appserver.repository;
+
+import com.handy.appserver.entity.image.ImageUpload;
+import com.handy.appserver.entity.image.ImageUploadStatus;
+import com.handy.appserver.entity.image.ImageUploadTarget;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageUploadRepository extends JpaRepository<ImageUpload, Long> {
+
+    Optional<ImageUpload> findByObjectKey(String objectKey);
+
+    List<ImageUpload> findByObjectKeyIn(Collection<String> objectKeys);
+
+    boolean existsByTargetAndOwnerIdAndUserId(ImageUploadTarget target, Long ownerId, Long userId);
+
+    // 아직 ISSUED인 기록만 확인 처리 (이미 ATTACHED인 기록을 되돌리지 않음)
+    @Modifying
+    @Query("UPDATE ImageUpload u SET u.status = :confirmed, u.confirmedAt = :confirmedAt " +
+           "WHERE u.objectKey = :objectKey AND u.status = :issued")
+    int confirm(@Param("objectKey") String objectKey,
+                @Param("issued") ImageUploadStatus issued,
+                @Param("confirmed") ImageUploadStatus confirmed,
+                @Param("confirmedAt") LocalDateTime confirmedAt);
+
+    // 참조 저장 표시 (정리 작업이 먼저 지운 기록은 빠지므로 반환값으로 확인)
+    @Modifying
+    @Query("UPDATE ImageUpload u SET u.status = :attached WHERE u.objectKey IN :objectKeys")
+    int attach(@Param("objectKeys") Collection<String> objectKeys,
+               @Param("attached") ImageUploadStatus attached);
+
+    // 만료되도록 발급 상태 그대로인 최종 key 직접 업로드 (확인/참조된 적 있는 key는 제외)
+    @Query("SELECT u FROM ImageUpload u WHERE u.expiresAt < :before AND u.target <> :temp AND u.status = :issued ORDER BY u.expiresAt")
+    List<ImageUpload> findAbandonedBefore(@Param("before") LocalDateTime before,
+                                          @Param("temp") ImageUploadTarget temp,
+                                          @Param("issued") ImageUploadStatus issued,
+                                          Pageable pageable);
+
+    // 그 사이 확인/참조 저장된 기록은 지우지 않음 (지웠으면 1)
+    @Modifying
+    @Query("DELETE FROM ImageUpload u WHERE u.id = :id AND u.status = :issued")
+    int deleteIfIssued(@Param("id") Long id, @Param("issued") ImageUploadStatus issued);
+
+    // 파일은 남기고 기록만 삭제 (임시 폴더 기록, 또는 확인/참조된 최종 key 기록)
+    @Modifying
+    @Query("DELETE FROM ImageUpload u WHERE u.expiresAt < :before AND (u.target = :temp OR u.status <> :issued)")
+    int deleteSettledBefore(@Param("before") LocalDateTime before,
+                            @Param("temp") ImageUploadTarget temp,
+                            @Param("issued") ImageUploadStatus issued);
+}
@@ -1,6 +1,7 @@
 package com.handy.appserver.repository;
 
 import com.handy.appserver.entity.order.OrderItem;
+import com.handy.appserver.entity.order.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,4 +20,8 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     
     @Query("SELECT COUNT(oi) FROM OrderItem oi WHERE oi.productId = :productId")
     Long countByProductId(@Param("productId") Long productId);
+
+    // 상품별 주문 수량 합계 (추천 점수 계산용)
+    @Query("SELECT oi.productId, SUM(oi.quantity) FROM OrderItem oi WHERE oi.order.status <> :excluded GROUP BY oi.productId")
+    List<Object[]> sumQuantityGroupByProductId(@Param("excluded") OrderStatus excluded);
 }
\ No newline at end of file
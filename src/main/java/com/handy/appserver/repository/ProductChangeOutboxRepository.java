@@ -0,0 +1,21 @@
+package com.handy.appserver.repository;
+
+import com.handy.appserver.entity.outbox.ProductChangeOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductChangeOutboxRepository extends JpaRepository<ProductChangeOutbox, Long> {
+
+    // 주어진 ID 이후의 변경 (id, 상품 id, 노드 id), ID 순
+    @Query("SELECT o.id, o.productId, o.originNode FROM ProductChangeOutbox o WHERE o.id > :afterId ORDER BY o.id")
+    List<Object[]> findRowsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ProductChangeOutbox o WHERE o.id < :beforeId")
+    int deleteByIdLessThan(@Param("beforeId") long beforeId);
+}
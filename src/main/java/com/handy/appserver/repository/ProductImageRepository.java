@@ -0,0 +1,27 @@
+package com.handy.appserver.repository;
+
+import com.handy.appserver.entity.product.ProductImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
+
+    @Query("SELECT i.imageUrl FROM ProductImage i WHERE i.imageUrl LIKE :pattern")
+    List<String> findImageUrlsLike(@Param("pattern") String pattern);
+
+    // 아직 원본 URL을 가리킬 때만 교체 (다른 컬럼과 수정 시각은 건드리지 않음, 교체했으면 1)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductImage i SET i.imageUrl = :finalUrl, i.thumbnailReady = :thumbnailReady " +
+           "WHERE i.id = :id AND i.imageUrl = :sourceUrl")
+    int replaceImageUrl(@Param("id") Long id, @Param("sourceUrl") String sourceUrl, @Param("finalUrl") String finalUrl,
+                        @Param("thumbnailReady") boolean thumbnailReady);
+
+    // 상품의 상세 이미지 중 이 URL인 이미지를 썸네일 생성 완료로 표시
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductImage i SET i.thumbnailReady = true WHERE i.product.id = :productId AND i.imageUrl = :imageUrl")
+    int markThumbnailReady(@Param("productId") Long productId, @Param("imageUrl") String imageUrl);
+}
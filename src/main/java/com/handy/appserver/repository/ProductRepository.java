@@ -1,27 +1,55 @@
 package com.handy.appserver.repository;
 
+import com.handy.appserver.dto.ProductImageRow;
+import com.handy.appserver.dto.ProductListRow;
 import com.handy.appserver.entity.product.Product;
 import com.handy.appserver.entity.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
     
-    // 판매자의 상품 목록 조회
-    Page<Product> findBySeller(User seller, Pageable pageable);
+    // 판매자의 상품 목록 조회 (전체 건수는 countBySeller + CountCache)
+    Slice<Product> findBySeller(User seller, Pageable pageable);
+
+    long countBySeller(User seller);
     
     // 판매자와 상품명으로 상품 검색
     Page<Product> findBySellerAndNameContaining(User seller, String keyword, Pageable pageable);
     
-    // 카테고리별 상품 목록 조회
+    // 카테고리별 상품 목록 조회 (전체 건수는 countByCategoryId + CountCache)
     @Query("SELECT p FROM Product p JOIN p.categories c WHERE c.id = :categoryId")
-    Page<Product> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+    Slice<Product> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM Product p JOIN p.categories c WHERE c.id = :categoryId")
+    long countByCategoryId(@Param("categoryId") Long categoryId);
     
+    // 여러 카테고리(하위 카테고리 포함) 상품 목록 - 여러 카테고리에 속한 상품도 한 번만 조회
+    @Query("SELECT DISTINCT p FROM Product p JOIN p.categories c WHERE c.id IN :categoryIds")
+    Slice<Product> findByCategoryIdIn(@Param("categoryIds") Collection<Long> categoryIds, Pageable pageable);
+
+    @Query("SELECT COUNT(DISTINCT p) FROM Product p JOIN p.categories c WHERE c.id IN :categoryIds")
+    long countByCategoryIdIn(@Param("categoryIds") Collection<Long> categoryIds);
+
+    @Query(value = "SELECT DISTINCT p FROM Product p JOIN p.categories c WHERE c.id IN :categoryIds AND p.name LIKE %:keyword%",
+           countQuery = "SELECT COUNT(DISTINCT p) FROM Product p JOIN p.categories c WHERE c.id IN :categoryIds AND p.name LIKE %:keyword%")
+    Page<Product> findByCategoryIdInAndNameContaining(@Param("categoryIds") Collection<Long> categoryIds,
+                                                      @Param("keyword") String keyword, Pageable pageable);
+
+    // 카테고리별 활성 상품 (카테고리 id, 상품 id) - 카테고리 상품 수 집계용
+    @Query("SELECT c.id, p.id FROM Product p JOIN p.categories c WHERE p.isActive = true")
+    List<Object[]> findActiveCategoryProductPairs();
+
     // 카테고리와 상품명으로 상품 검색
     @Query("SELECT p FROM Product p JOIN p.categories c WHERE c.id = :categoryId AND p.name LIKE %:keyword%")
     Page<Product> findByCategoryIdAndNameContaining(@Param("categoryId") Long categoryId, @Param("keyword") String keyword, Pageable pageable);
@@ -33,8 +61,10 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p JOIN p.categories c WHERE p.seller = :seller AND c.id = :categoryId")
     Page<Product> findBySellerAndCategoryId(@Param("seller") User seller, @Param("categoryId") Long categoryId, Pageable pageable);
     
-    // 활성화된 상품만 조회
-    Page<Product> findByIsActiveTrue(Pageable pageable);
+    // 활성화된 상품만 조회 (전체 건수는 countByIsActiveTrue + CountCache)
+    Slice<Product> findByIsActiveTrue(Pageable pageable);
+
+    long countByIsActiveTrue();
     
     // 활성화된 상품명으로 상품 검색
     Page<Product> findByIsActiveTrueAndNameContaining(String keyword, Pageable pageable);
@@ -42,7 +72,67 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // 판매자의 활성화된 상품만 조회
     Page<Product> findBySellerAndIsActiveTrue(User seller, Pageable pageable);
     
-    // 상품 ID 목록으로 상품 조회
+    // 상품 ID 목록으로 상품 조회 (판매자는 조인으로 함께 로딩, 컬렉션은 @BatchSize)
+    @EntityGraph(attributePaths = "seller")
     @Query("SELECT p FROM Product p WHERE p.id IN :ids")
     List<Product> findByIds(@Param("ids") List<Long> ids);
-} 
\ No newline at end of file
+
+    // 목록 조회용 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않고 목록 컬럼만 조회)
+    @Query("SELECT new com.handy.appserver.dto.ProductListRow(p.id, p.name, p.description, p.mainImageUrl, p.mainThumbnailReady, p.price, " +
+           "p.productionDays, p.isActive, p.createdAt, p.updatedAt, p.recommendScore) FROM Product p WHERE p.isActive = true")
+    Slice<ProductListRow> findActiveListRows(Pageable pageable);
+
+    @Query(value = "SELECT new com.handy.appserver.dto.ProductListRow(p.id, p.name, p.description, p.mainImageUrl, p.mainThumbnailReady, p.price, " +
+                   "p.productionDays, p.isActive, p.createdAt, p.updatedAt, p.recommendScore) FROM Product p " +
+                   "WHERE p.isActive = true AND p.name LIKE %:keyword%",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.isActive = true AND p.name LIKE %:keyword%")
+    Page<ProductListRow> findActiveListRowsByNameContaining(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT new com.handy.appserver.dto.ProductListRow(p.id, p.name, p.description, p.mainImageUrl, p.mainThumbnailReady, p.price, " +
+           "p.productionDays, p.isActive, p.createdAt, p.updatedAt, p.recommendScore) FROM Product p WHERE p.id IN :ids")
+    List<ProductListRow> findListRowsByIds(@Param("ids") Collection<Long> ids);
+
+    // 목록 상품들의 상세 이미지를 한 번에 조회
+    @Query("SELECT new com.handy.appserver.dto.ProductImageRow(i.product.id, i.id, i.imageUrl, i.thumbnailReady, i.imageOrder) " +
+           "FROM ProductImage i WHERE i.product.id IN :productIds ORDER BY i.id ASC")
+    List<ProductImageRow> findImageRowsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    // 자동완성/오타 허용 검색 색인 대상 (id, 상품명, 추천 점수)
+    @Query("SELECT p.id, p.name, p.recommendScore FROM Product p WHERE p.isActive = true")
+    List<Object[]> findActiveAutocompleteRows();
+
+    // 자동완성 색인 준비 전 대체 조회 (상품명 전방일치)
+    List<Product> findByIsActiveTrueAndNameStartingWith(String prefix, Pageable pageable);
+
+    // 추천 점수 계산 대상 (id, 등록 시각, 현재 점수)
+    @Query("SELECT p.id, p.createdAt, p.recommendScore FROM Product p WHERE p.isActive = true")
+    List<Object[]> findActiveRecommendInputs();
+
+
+    // 아직 임시 폴더 이미지를 가리키는 대표 이미지 URL (임시 폴더 정리 시 보호)
+    @Query("SELECT p.mainImageUrl FROM Product p WHERE p.mainImageUrl LIKE :pattern")
+    List<String> findMainImageUrlsLike(@Param("pattern") String pattern);
+
+    // 아직 원본 URL을 가리킬 때만 대표 이미지 교체 (다른 컬럼과 수정 시각은 건드리지 않음, 교체했으면 1)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.mainImageUrl = :finalUrl, p.mainThumbnailReady = :thumbnailReady " +
+           "WHERE p.id = :id AND p.mainImageUrl = :sourceUrl")
+    int replaceMainImageUrl(@Param("id") Long id, @Param("sourceUrl") String sourceUrl, @Param("finalUrl") String finalUrl,
+                            @Param("thumbnailReady") boolean thumbnailReady);
+
+    // 아직 같은 이미지를 대표 이미지로 쓰고 있을 때만 썸네일 생성 완료로 표시 (표시했으면 1)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.mainThumbnailReady = true WHERE p.id = :id AND p.mainImageUrl = :imageUrl")
+    int markMainThumbnailReady(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+
+    @Query("SELECT i.product.id FROM ProductImage i WHERE i.id = :imageId")
+    Long findIdByDetailImageId(@Param("imageId") Long imageId);
+
+    // 판매자의 상품 ID (판매자 이름 변경을 아웃박스에 기록할 때 사용)
+    @Query("SELECT p.id FROM Product p WHERE p.seller.id = :sellerId")
+    List<Long> findIdsBySellerId(@Param("sellerId") Long sellerId);
+
+    // 주어진 ID 중 이미 저장된 상품 ID (일괄 등록 검증용)
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,109 @@
+package com.handy.appserver.repository;
+
+import com.handy.appserver.dto.ProductCursor;
+import com.handy.appserver.entity.product.Product;
+import com.handy.appserver.entity.product.ProductShape;
+import com.handy.appserver.entity.product.ProductSize;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * 상품 목록 조회 조건
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    public static Specification<Product> isActive() {
+        return (root, query, cb) -> cb.isTrue(root.get("isActive"));
+    }
+
+    public static Specification<Product> hasSeller(Long sellerId) {
+        return (root, query, cb) -> cb.equal(root.get("seller").get("id"), sellerId);
+    }
+
+    public static Specification<Product> inCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.join("categories").get("id"), categoryId);
+    }
+
+    // 여러 카테고리 중 하나에 속한 상품 (여러 카테고리에 걸친 상품이 중복되지 않도록 EXISTS로 확인)
+    public static Specification<Product> inAnyCategory(Collection<Long> categoryIds) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Product> product = subquery.from(Product.class);
+            subquery.select(product.get("id"))
+                    .where(cb.equal(product.get("id"), root.get("id")),
+                            product.join("categories").get("id").in(categoryIds));
+            return cb.exists(subquery);
+        };
+    }
+
+    public static Specification<Product> shapeIn(Collection<ProductShape> shapes) {
+        return (root, query, cb) -> root.get("shape").in(shapes);
+    }
+
+    public static Specification<Product> sizeIn(Collection<ProductSize> sizes) {
+        return (root, query, cb) -> root.get("size").in(sizes);
+    }
+
+    public static Specification<Product> priceAtLeast(BigDecimal minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    public static Specification<Product> priceAtMost(BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+
+    public static Specification<Product> productionDaysAtMost(Integer days) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("productionDays"), days);
+    }
+
+    public static Specification<Product> customAvailable(boolean available) {
+        return (root, query, cb) -> cb.equal(root.get("customAvailable"), available);
+    }
+
+    public static Specification<Product> nameContains(String keyword) {
+        return (root, query, cb) -> cb.like(root.get("name"), "%" + keyword + "%");
+    }
+
+    /**
+     * 커서 이후의 상품 (sortField, id) keyset 조건
+     * 정렬 필드가 같으면 id로 순서를 확정하므로 OFFSET 없이 인덱스 범위 탐색만으로 다음 페이지를 조회
+     */
+    public static Specification<Product> after(ProductCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            return switch (cursor.getSort()) {
+                case PRICE_ASC -> seekAscending(cb, root.get("price"), cursor.priceValue(), id, cursor.getId());
+                case PRICE_DESC -> seekDescending(cb, root.get("price"), cursor.priceValue(), id, cursor.getId());
+                case UPDATED_AT_DESC -> seekDescending(cb, root.get("updatedAt"), cursor.dateTimeValue(), id, cursor.getId());
+                case RECOMMEND -> seekDescending(cb, root.get("recommendScore"), cursor.scoreValue(), id, cursor.getId());
+                default -> seekDescending(cb, root.get("createdAt"), cursor.dateTimeValue(), id, cursor.getId());
+            };
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate seekAscending(
+            CriteriaBuilder cb, Path<T> field, T value, Path<Long> id, Long lastId) {
+        return cb.or(
+            cb.greaterThan(field, value),
+            cb.and(cb.equal(field, value), cb.greaterThan(id, lastId))
+        );
+    }
+
+    private static <T extends Comparable<? super T>> Predicate seekDescending(
+            CriteriaBuilder cb, Path<T> field, T value, Path<Long> id, Long lastId) {
+        return cb.or(
+            cb.lessThan(field, value),
+            cb.and(cb.equal(field, value), cb.lessThan(id, lastId))
+        );
+    }
+}
@@ -4,8 +4,8 @@ import com.handy.appserver.entity.report.Report;
 import com.handy.appserver.entity.report.ReportStatus;
 import com.handy.appserver.entity.report.ReportTargetType;
 import com.handy.appserver.entity.user.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,13 +13,17 @@ import org.springframework.data.repository.query.Param;
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
     // 특정 대상에 대한 신고들 조회
-    Page<Report> findByTargetTypeAndTargetIdOrderByCreatedAtDesc(ReportTargetType targetType, Long targetId, Pageable pageable);
+    Slice<Report> findByTargetTypeAndTargetIdOrderByCreatedAtDesc(ReportTargetType targetType, Long targetId, Pageable pageable);
 
     // 사용자가 신고한 내역 조회
-    Page<Report> findByReporterOrderByCreatedAtDesc(User reporter, Pageable pageable);
+    Slice<Report> findByReporterOrderByCreatedAtDesc(User reporter, Pageable pageable);
+
+    long countByReporter(User reporter);
 
     // 신고 상태별 조회
-    Page<Report> findByStatusOrderByCreatedAtDesc(ReportStatus status, Pageable pageable);
+    Slice<Report> findByStatusOrderByCreatedAtDesc(ReportStatus status, Pageable pageable);
+
+    long countByStatus(ReportStatus status);
 
     // 특정 대상에 대한 신고 수 조회
     Long countByTargetTypeAndTargetId(ReportTargetType targetType, Long targetId);
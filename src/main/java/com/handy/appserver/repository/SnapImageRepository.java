@@ -0,0 +1,22 @@
+package com.handy.appserver.repository;
+
+import com.handy.appserver.entity.snap.SnapImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface SnapImageRepository extends JpaRepository<SnapImage, Long> {
+
+    @Query("SELECT i.imageUrl FROM SnapImage i WHERE i.imageUrl LIKE :pattern")
+    List<String> findImageUrlsLike(@Param("pattern") String pattern);
+
+    // 아직 원본 URL을 가리킬 때만 교체 (교체했으면 1)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SnapImage i SET i.imageUrl = :finalUrl, i.thumbnailReady = :thumbnailReady " +
+           "WHERE i.id = :id AND i.imageUrl = :sourceUrl")
+    int replaceImageUrl(@Param("id") Long id, @Param("sourceUrl") String sourceUrl, @Param("finalUrl") String finalUrl,
+                        @Param("thumbnailReady") boolean thumbnailReady);
+}
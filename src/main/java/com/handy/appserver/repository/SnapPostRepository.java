@@ -2,22 +2,37 @@ package com.handy.appserver.repository;
 
 import com.handy.appserver.entity.snap.SnapPost;
 import com.handy.appserver.entity.user.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface SnapPostRepository extends JpaRepository<SnapPost, Long> {
     
     // 활성화된 모든 스냅 포스트 조회 (최신순)
-    Page<SnapPost> findByIsActiveTrue(Pageable pageable);
+    Slice<SnapPost> findByIsActiveTrue(Pageable pageable);
+
+    long countByIsActiveTrue();
     
     // 특정 사용자의 활성화된 스냅 포스트 조회 (최신순)
-    Page<SnapPost> findByUserAndIsActiveTrue(User user, Pageable pageable);
+    Slice<SnapPost> findByUserAndIsActiveTrue(User user, Pageable pageable);
+
+    long countByUserAndIsActiveTrue(User user);
     
     // 특정 사용자의 활성화된 스냅 포스트 목록 조회 (최신순) - List 형태
     List<SnapPost> findByUserAndIsActiveTrueOrderByCreatedAtDesc(User user);
+
+    // 제목 검색 색인 대상 (id, 제목)
+    @Query("SELECT s.id, s.title FROM SnapPost s WHERE s.isActive = true")
+    List<Object[]> findActiveTitleRows();
+
+    // 주어진 시각 이후 생성/수정된 스냅 (id, 제목, 활성 여부) - 다른 서버의 변경을 색인에 반영
+    @Query("SELECT s.id, s.title, s.isActive FROM SnapPost s WHERE s.updatedAt >= :since")
+    List<Object[]> findTitleRowsUpdatedSince(@Param("since") LocalDateTime since);
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.handy.appserver.repository;
 
 import com.handy.appserver.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,4 +18,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     @Query("SELECT u FROM User u WHERE u.role = 'SELLER'")
     List<User> findAllSellers();
-} 
\ No newline at end of file
+
+    @Query("SELECT u.profileImageUrl FROM User u WHERE u.profileImageUrl LIKE :pattern")
+    List<String> findProfileImageUrlsLike(@Param("pattern") String pattern);
+
+    // 아직 원본 URL을 가리킬 때만 교체 (교체했으면 1)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.profileImageUrl = :finalUrl WHERE u.id = :id AND u.profileImageUrl = :sourceUrl")
+    int replaceProfileImageUrl(@Param("id") Long id, @Param("sourceUrl") String sourceUrl, @Param("finalUrl") String finalUrl);
+}
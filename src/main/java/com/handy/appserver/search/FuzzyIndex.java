@@ -0,0 +1,157 @@
+package com.handy.appserver.search;
+
+import java.util.*;
+
+/**
+ * 자모 분해 n-gram 기반 오타 허용 검색 색인 (스레드 안전하지 않음 - 사용하는 쪽에서 잠금)
+ * - 문서 텍스트를 정규화 후 자모로 분해해 2-gram 역색인에 등록
+ * - 검색어와 공유하는 gram 수가 편집 거리 k의 하한(q-gram 보조정리)을 넘는 문서만 후보로 뽑고,
+ *   후보에 대해서만 "검색어 ↔ 텍스트 일부" 편집 거리를 k 이내로 계산해 확인
+ * - 검색어와 gram을 하나도 공유하지 않는 문서는 보지 않으므로 전체 문서를 훑지 않음
+ */
+public class FuzzyIndex {
+
+    public static final int MAX_RESULTS = 200;
+    private static final int GRAM = 2;
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_CANDIDATES = 5000;
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+
+    public void put(Long id, String text, double score) {
+        remove(id);
+        String jamo = KoreanText.decompose(KoreanText.normalize(text));
+        if (jamo.isEmpty()) {
+            return;
+        }
+        Set<String> grams = KoreanText.ngrams(jamo, GRAM);
+        docs.put(id, new Doc(jamo.toCharArray(), grams, score));
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    public void remove(Long id) {
+        Doc previous = docs.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams()) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    public void updateScore(Long id, double score) {
+        Doc previous = docs.get(id);
+        if (previous != null) {
+            docs.put(id, new Doc(previous.jamo(), previous.grams(), score));
+        }
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    /**
+     * @return 편집 거리 오름차순, 같은 거리는 점수/ID 내림차순으로 정렬된 일치 문서 (최대 MAX_RESULTS건)
+     */
+    public List<Match> search(String query) {
+        String jamo = KoreanText.decompose(KoreanText.normalize(query));
+        if (jamo.length() < MIN_QUERY_LENGTH) {
+            return List.of();
+        }
+        int maxDistance = maxDistance(jamo.length());
+        Set<String> queryGrams = KoreanText.ngrams(jamo, GRAM);
+        // 편집 한 번은 gram을 최대 GRAM개까지 깨뜨림
+        int minShared = Math.max(1, queryGrams.size() - GRAM * maxDistance);
+
+        Map<Long, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.forEach(id -> shared.merge(id, 1, Integer::sum));
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : shared.entrySet()) {
+            if (entry.getValue() >= minShared) {
+                candidates.add(entry);
+            }
+        }
+        if (candidates.size() > MAX_CANDIDATES) {
+            candidates.sort(Map.Entry.<Long, Integer>comparingByValue().reversed());
+            candidates = candidates.subList(0, MAX_CANDIDATES);
+        }
+
+        char[] pattern = jamo.toCharArray();
+        List<Match> matches = new ArrayList<>();
+        for (Map.Entry<Long, Integer> candidate : candidates) {
+            Doc doc = docs.get(candidate.getKey());
+            int distance = substringDistance(pattern, doc.jamo(), maxDistance);
+            if (distance <= maxDistance) {
+                matches.add(new Match(candidate.getKey(), distance, doc.score()));
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance)
+                .thenComparing(Comparator.comparingDouble(Match::score).reversed())
+                .thenComparing(Match::id, Comparator.reverseOrder()));
+        return matches.size() > MAX_RESULTS ? List.copyOf(matches.subList(0, MAX_RESULTS)) : matches;
+    }
+
+    /**
+     * 검색어 자모 길이별 허용 편집 거리 (한 음절이 자모 2~3개)
+     */
+    static int maxDistance(int queryLength) {
+        if (queryLength <= 3) {
+            return 0;
+        }
+        if (queryLength <= 7) {
+            return 1;
+        }
+        return queryLength <= 12 ? 2 : 3;
+    }
+
+    /**
+     * 검색어와 텍스트의 임의 부분 문자열 사이 최소 편집 거리 (Sellers 알고리즘)
+     * 텍스트 시작 위치가 자유로워 끝까지 계산하되, 정확히 포함된 위치를 찾으면 바로 종료
+     * @return 최소 편집 거리 (max를 넘으면 max + 1)
+     */
+    static int substringDistance(char[] pattern, char[] text, int max) {
+        int m = pattern.length;
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int i = 0; i <= m; i++) {
+            previous[i] = i;
+        }
+        int best = previous[m];
+        for (char t : text) {
+            current[0] = 0;
+            for (int i = 1; i <= m; i++) {
+                int substitute = previous[i - 1] + (pattern[i - 1] == t ? 0 : 1);
+                current[i] = Math.min(substitute, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            best = Math.min(best, current[m]);
+            if (best == 0) {
+                return 0;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(best, max + 1);
+    }
+
+    public record Match(Long id, int distance, double score) {
+    }
+
+    private record Doc(char[] jamo, Set<String> grams, double score) {
+    }
+}
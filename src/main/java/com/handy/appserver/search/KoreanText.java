@@ -0,0 +1,120 @@
+package com.handy.appserver.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 한글 텍스트 정규화 유틸리티
+ */
+public final class KoreanText {
+
+    private static final char HANGUL_BASE = '\uAC00';
+    private static final char HANGUL_LAST = '\uD7A3';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private KoreanText() {
+    }
+
+    public static boolean isHangulSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    public static boolean isChoseong(char c) {
+        return CHOSEONG.indexOf(c) >= 0;
+    }
+
+    /**
+     * 한글 음절을 초성(호환 자모)으로 바꾼 문자열 ("젤네일" → "ㅈㄴㅇ"), 한글이 아닌 문자는 그대로 유지
+     */
+    public static String choseong(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (char c : normalized.toCharArray()) {
+            if (isHangulSyllable(c)) {
+                sb.append(CHOSEONG.charAt((c - HANGUL_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한글 음절을 초성/중성/종성 자모(호환 자모)로 분해한 문자열 ("네일" → "ㄴㅔㅇㅣㄹ")
+     * 오타가 음절 하나가 아닌 자모 하나의 차이가 되도록 편집 거리 비교에 사용, 한글이 아닌 문자는 그대로 유지
+     */
+    public static String decompose(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length() * 3);
+        for (char c : normalized.toCharArray()) {
+            if (isHangulSyllable(c)) {
+                int offset = c - HANGUL_BASE;
+                sb.append(CHOSEONG.charAt(offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+                sb.append(JUNGSEONG.charAt(offset % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT));
+                int jong = offset % JONGSEONG_COUNT;
+                if (jong > 0) {
+                    sb.append(JONGSEONG.charAt(jong));
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 검색어 여부 (한글 음절 없이 초성 자모가 하나 이상 포함된 경우, 예: "ㅈㄴ", "ㅈㄴ팁"은 아님)
+     */
+    public static boolean isChoseongQuery(String normalized) {
+        boolean hasChoseong = false;
+        for (char c : normalized.toCharArray()) {
+            if (isHangulSyllable(c)) {
+                return false;
+            }
+            hasChoseong |= isChoseong(c);
+        }
+        return hasChoseong;
+    }
+
+    /**
+     * 검색 비교용 정규화
+     * - iOS/macOS에서 들어오는 NFD(자모 분리) 입력을 NFC 음절로 합침
+     * - 영문 소문자화
+     * - 띄어쓰기 제거 ("젤 네일" 과 "젤네일" 을 같은 검색어로 취급)
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(composed.length());
+        composed.codePoints()
+                .filter(cp -> !Character.isWhitespace(cp))
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    /**
+     * 정규화된 텍스트의 n-gram 집합 (코드포인트 단위)
+     * 텍스트 길이가 n보다 짧으면 텍스트 자체를 하나의 gram으로 반환
+     */
+    public static Set<String> ngrams(String normalized, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        int[] cps = normalized.codePoints().toArray();
+        if (cps.length == 0) {
+            return grams;
+        }
+        if (cps.length < n) {
+            grams.add(normalized);
+            return grams;
+        }
+        for (int i = 0; i + n <= cps.length; i++) {
+            grams.add(new String(cps, i, n));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,309 @@
+package com.handy.appserver.search;
+
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 상품명 자동완성 (JVM 메모리 트라이)
+ * - 상품명의 각 단어 시작 위치부터의 정규화 문자열을 키로 등록 ("젤 네일 팁" → "젤네일팁", "네일팁", "팁")
+ * - 초성 트라이를 따로 두어 "ㅈㄴ" 같은 초성 입력도 전방일치로 검색
+ * - 노드마다 하위 상품 중 추천 점수 상위 MAX_SUGGESTIONS개를 미리 계산해 두므로 조회는 입력 길이만큼의 탐색으로 끝남
+ * - 상품 생성/수정/비활성화는 커밋 이후 해당 상품의 경로만 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductAutocomplete {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final ProductRepository productRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Tries tries = new Tries();
+
+    // 재구축 중 들어온 변경 (재구축 결과 교체 후 재적용)
+    private List<ProductChangedEvent> pendingEvents;
+    private Map<Long, Double> pendingScores;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async("indexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+            pendingScores = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Tries newTries = new Tries();
+        try {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(true);
+            List<Object[]> rows = tx.execute(status -> productRepository.findActiveAutocompleteRows());
+            for (Object[] row : rows) {
+                newTries.put((Long) row[0], (String) row[1], ((Number) row[2]).doubleValue());
+            }
+        } catch (RuntimeException e) {
+            log.error("Product autocomplete rebuild failed", e);
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+                pendingScores = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            tries = newTries;
+            pendingEvents.forEach(this::applyLocked);
+            pendingScores.forEach(tries::updateScore);
+            pendingEvents = null;
+            pendingScores = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product autocomplete rebuilt - products: {}, took {}ms",
+                newTries.products.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 추천 점수 반영 (상품 ID → 새 점수)
+     */
+    public void updateScores(Map<Long, Double> scores) {
+        lock.writeLock().lock();
+        try {
+            scores.forEach(tries::updateScore);
+            if (pendingScores != null) {
+                pendingScores.putAll(scores);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력한 글자로 시작하는(단어 단위) 상품명 자동완성
+     * @param query 입력 중인 검색어 (초성만 입력하면 초성으로 비교)
+     * @return 추천 점수 순 상품 목록
+     */
+    public List<Suggestion> suggest(String query, int limit) {
+        String normalized = KoreanText.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_SUGGESTIONS);
+        lock.readLock().lock();
+        try {
+            Node root = KoreanText.isChoseongQuery(normalized) ? tries.choseongRoot : tries.nameRoot;
+            Node node = root.find(normalized);
+            if (node == null) {
+                return List.of();
+            }
+            List<Suggestion> suggestions = new ArrayList<>(size);
+            for (int i = 0; i < node.top.length && suggestions.size() < size; i++) {
+                Indexed product = tries.products.get(node.top[i]);
+                suggestions.add(new Suggestion(product.id(), product.name()));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyLocked(ProductChangedEvent event) {
+        if (event.isActive()) {
+            tries.put(event.getProductId(), event.getName(), event.getRecommendScore());
+        } else {
+            tries.remove(event.getProductId());
+        }
+    }
+
+    public record Suggestion(Long id, String name) {
+    }
+
+    private record Indexed(Long id, String name, double score, List<String> keys) {
+    }
+
+    /**
+     * 상품명 트라이와 초성 트라이
+     */
+    private static final class Tries {
+        private final Map<Long, Indexed> products = new HashMap<>();
+        private final Node nameRoot = new Node();
+        private final Node choseongRoot = new Node();
+        private final Comparator<Long> ranking = Comparator.<Long>comparingDouble(id -> products.get(id).score())
+                .reversed()
+                .thenComparing(Comparator.<Long>reverseOrder());
+
+        private void put(Long id, String name, double score) {
+            remove(id);
+            if (name == null || name.isBlank()) {
+                return;
+            }
+            List<String> keys = keys(name);
+            products.put(id, new Indexed(id, name, score, keys));
+            for (String key : keys) {
+                nameRoot.insert(key, id, ranking);
+                choseongRoot.insert(KoreanText.choseong(key), id, ranking);
+            }
+        }
+
+        private void remove(Long id) {
+            Indexed previous = products.get(id);
+            if (previous == null) {
+                return;
+            }
+            // 경로의 상위 목록을 다시 계산할 때 점수를 참조하므로 트라이에서 뺀 뒤 제거
+            for (String key : previous.keys()) {
+                nameRoot.delete(key, id, ranking);
+                choseongRoot.delete(KoreanText.choseong(key), id, ranking);
+            }
+            products.remove(id);
+        }
+
+        private void updateScore(Long id, Double score) {
+            Indexed previous = products.get(id);
+            if (previous != null && previous.score() != score) {
+                put(id, previous.name(), score);
+            }
+        }
+
+        // 단어 시작 위치마다의 정규화 문자열 (중복 제외)
+        private static List<String> keys(String name) {
+            Set<String> keys = new LinkedHashSet<>();
+            String[] words = name.trim().split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                String key = KoreanText.normalize(String.join("", Arrays.asList(words).subList(i, words.length)));
+                if (!key.isEmpty()) {
+                    keys.add(key);
+                }
+            }
+            return List.copyOf(keys);
+        }
+    }
+
+    private static final class Node {
+        private static final long[] EMPTY = new long[0];
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private Set<Long> terminals;       // 이 노드에서 끝나는 키의 상품
+        private long[] top = EMPTY;        // 하위 상품 중 상위 MAX_SUGGESTIONS개 (정렬됨)
+
+        private Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            return node;
+        }
+
+        private void insert(String key, Long id, Comparator<Long> ranking) {
+            Node[] path = new Node[key.length() + 1];
+            path[0] = this;
+            for (int i = 0; i < key.length(); i++) {
+                path[i + 1] = path[i].children.computeIfAbsent(key.charAt(i), c -> new Node());
+            }
+            Node leaf = path[key.length()];
+            if (leaf.terminals == null) {
+                leaf.terminals = new HashSet<>(2);
+            }
+            leaf.terminals.add(id);
+            recomputeTop(path, ranking);
+        }
+
+        private void delete(String key, Long id, Comparator<Long> ranking) {
+            Node[] path = new Node[key.length() + 1];
+            path[0] = this;
+            for (int i = 0; i < key.length(); i++) {
+                path[i + 1] = path[i].children.get(key.charAt(i));
+                if (path[i + 1] == null) {
+                    return;
+                }
+            }
+            Node leaf = path[key.length()];
+            if (leaf.terminals != null) {
+                leaf.terminals.remove(id);
+                if (leaf.terminals.isEmpty()) {
+                    leaf.terminals = null;
+                }
+            }
+            // 비어 있는 노드는 잘라냄
+            for (int i = key.length(); i > 0; i--) {
+                Node node = path[i];
+                if (node.terminals == null && node.children.isEmpty()) {
+                    path[i - 1].children.remove(key.charAt(i - 1));
+                    path[i] = null;
+                } else {
+                    break;
+                }
+            }
+            recomputeTop(path, ranking);
+        }
+
+        // 경로 아래쪽부터 자식들의 상위 목록과 이 노드에서 끝나는 상품을 합쳐 다시 계산
+        private static void recomputeTop(Node[] path, Comparator<Long> ranking) {
+            for (int i = path.length - 1; i >= 0; i--) {
+                Node node = path[i];
+                if (node == null) {
+                    continue;
+                }
+                Set<Long> candidates = new HashSet<>();
+                if (node.terminals != null) {
+                    candidates.addAll(node.terminals);
+                }
+                for (Node child : node.children.values()) {
+                    for (long id : child.top) {
+                        candidates.add(id);
+                    }
+                }
+                node.top = candidates.stream()
+                        .sorted(ranking)
+                        .limit(MAX_SUGGESTIONS)
+                        .mapToLong(Long::longValue)
+                        .toArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,472 @@
+package com.handy.appserver.search;
+
+import com.handy.appserver.dto.ProductFilterRequest;
+import com.handy.appserver.entity.product.Product;
+import com.handy.appserver.entity.product.ProductShape;
+import com.handy.appserver.entity.product.ProductSize;
+import com.handy.appserver.entity.product.ProductSortType;
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 필터 검색용 컬럼형 카탈로그 (JVM 메모리)
+ * - 상품마다 슬롯 번호를 부여하고 가격/모양/크기/제작일/등록일/추천 점수를 기본형 배열에 슬롯 순서로 보관
+ * - 모양, 크기, 맞춤 제작 여부, 카테고리, 활성 여부는 값별 BitSet으로 보관해 AND/OR 연산으로 필터링
+ * - 가격/제작일 범위 조건은 후보 슬롯만 배열에서 확인
+ * - 정렬 기준별 슬롯 순위를 한 번 계산해 두고(변경이 있으면 다음 조회에서 다시 계산) 조회마다 후보 슬롯의 순위만 int 배열로 정렬
+ * - 상품 변경은 커밋 이후 이벤트로, 추천 점수는 ProductRankingService 갱신 시 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalog {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Columns columns = new Columns();
+
+    // 재구축 중 들어온 변경 (재구축 결과 교체 후 재적용)
+    private List<ProductChangedEvent> pendingEvents;
+    private Map<Long, Double> pendingScores;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async("indexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+            pendingScores = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Columns newColumns = new Columns();
+        try {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(true);
+            int pageNumber = 0;
+            boolean hasNext = true;
+            while (hasNext) {
+                final int current = pageNumber++;
+                hasNext = Boolean.TRUE.equals(tx.execute(status -> {
+                    Page<Product> page = productRepository.findAll(
+                            PageRequest.of(current, REBUILD_PAGE_SIZE, Sort.by("id")));
+                    for (Product product : page.getContent()) {
+                        newColumns.upsert(ProductChangedEvent.of(ProductChangedEvent.ChangeType.UPDATED, product));
+                    }
+                    return page.hasNext();
+                }));
+            }
+        } catch (RuntimeException e) {
+            log.error("Product catalog rebuild failed", e);
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+                pendingScores = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            columns = newColumns;
+            pendingEvents.forEach(columns::upsert);
+            pendingScores.forEach(columns::updateScore);
+            pendingEvents = null;
+            pendingScores = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product catalog rebuilt - products: {}, took {}ms",
+                newColumns.count, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            columns.upsert(event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 추천 점수 반영 (상품 ID → 새 점수)
+     */
+    public void updateScores(Map<Long, Double> scores) {
+        lock.writeLock().lock();
+        try {
+            scores.forEach(columns::updateScore);
+            if (pendingScores != null) {
+                pendingScores.putAll(scores);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 활성 상품 필터 검색
+     * @param page 0부터 시작하는 페이지 번호
+     */
+    public FilterResult filter(ProductFilterRequest request, ProductSortType sort, int page, int size) {
+        lock.readLock().lock();
+        try {
+            return columns.filter(request, sort != null ? sort : ProductSortType.CREATED_AT_DESC, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param ids 요청 페이지의 상품 ID (정렬 순서)
+     * @param total 조건에 맞는 전체 상품 수
+     */
+    public record FilterResult(List<Long> ids, int total,
+                               Map<ProductShape, Integer> shapeCounts,
+                               Map<ProductSize, Integer> sizeCounts,
+                               int customAvailableCount) {
+    }
+
+    private static long toMinorUnits(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MIN_VALUE;
+    }
+
+    /**
+     * 슬롯 순서로 정렬된 컬럼 배열과 값별 BitSet
+     * 상품이 비활성화되어도 슬롯은 유지하고 active 비트만 끔
+     */
+    private static final class Columns {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private int count;
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private long[] prices = new long[INITIAL_CAPACITY];        // 가격 × 100
+        private byte[] shapes = new byte[INITIAL_CAPACITY];        // ProductShape ordinal (-1: 없음)
+        private byte[] sizes = new byte[INITIAL_CAPACITY];         // ProductSize ordinal (-1: 없음)
+        private int[] productionDays = new int[INITIAL_CAPACITY];
+        private long[] createdAt = new long[INITIAL_CAPACITY];     // epoch millis
+        private long[] updatedAt = new long[INITIAL_CAPACITY];
+        private double[] scores = new double[INITIAL_CAPACITY];
+        private long[][] categories = new long[INITIAL_CAPACITY][];
+
+        private final Map<Long, Integer> slotById = new HashMap<>();
+        private final BitSet active = new BitSet();
+        private final BitSet customAvailable = new BitSet();
+        private final BitSet[] byShape = newBitSets(ProductShape.values().length);
+        private final BitSet[] bySize = newBitSets(ProductSize.values().length);
+        private final Map<Long, BitSet> byCategory = new HashMap<>();
+
+        // 정렬 기준별 [슬롯 → 순위, 순위 → 슬롯] (쓰기에서 무효화, 읽기 잠금 안에서 여러 조회가 함께 접근하므로 자체 잠금)
+        private final int[][][] orderings = new int[ProductSortType.values().length][][];
+
+        private void upsert(ProductChangedEvent event) {
+            invalidateOrderings();
+            Integer existing = slotById.get(event.getProductId());
+            int slot = existing != null ? existing : allocate(event.getProductId());
+
+            prices[slot] = event.getPrice() != null ? toMinorUnits(event.getPrice()) : 0;
+            productionDays[slot] = event.getProductionDays() != null ? event.getProductionDays() : 0;
+            createdAt[slot] = toEpochMillis(event.getCreatedAt());
+            updatedAt[slot] = toEpochMillis(event.getUpdatedAt());
+            scores[slot] = event.getRecommendScore();
+
+            shapes[slot] = setOrdinal(byShape, slot, event.getShape() != null ? event.getShape().ordinal() : -1);
+            sizes[slot] = setOrdinal(bySize, slot, event.getSize() != null ? event.getSize().ordinal() : -1);
+            active.set(slot, event.isActive());
+            customAvailable.set(slot, event.isCustomAvailable());
+
+            if (categories[slot] != null) {
+                for (long categoryId : categories[slot]) {
+                    BitSet bits = byCategory.get(categoryId);
+                    if (bits != null) {
+                        bits.clear(slot);
+                    }
+                }
+            }
+            long[] categoryIds = event.getCategoryIds().stream().mapToLong(Long::longValue).toArray();
+            for (long categoryId : categoryIds) {
+                byCategory.computeIfAbsent(categoryId, key -> new BitSet()).set(slot);
+            }
+            categories[slot] = categoryIds;
+        }
+
+        private void updateScore(Long productId, Double score) {
+            Integer slot = slotById.get(productId);
+            if (slot != null) {
+                scores[slot] = score;
+                synchronized (orderings) {
+                    orderings[ProductSortType.RECOMMEND.ordinal()] = null;
+                }
+            }
+        }
+
+        private int allocate(Long productId) {
+            if (count == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                shapes = Arrays.copyOf(shapes, capacity);
+                sizes = Arrays.copyOf(sizes, capacity);
+                productionDays = Arrays.copyOf(productionDays, capacity);
+                createdAt = Arrays.copyOf(createdAt, capacity);
+                updatedAt = Arrays.copyOf(updatedAt, capacity);
+                scores = Arrays.copyOf(scores, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+            }
+            int slot = count++;
+            ids[slot] = productId;
+            slotById.put(productId, slot);
+            return slot;
+        }
+
+        private FilterResult filter(ProductFilterRequest request, ProductSortType sort, int page, int size) {
+            // 공통 조건: 활성 + 카테고리 + 가격/제작일 범위
+            BitSet common = (BitSet) active.clone();
+            if (request.getCategoryId() != null) {
+                common.and(byCategory.getOrDefault(request.getCategoryId(), new BitSet()));
+            }
+            applyRanges(common, request);
+
+            BitSet shapeFilter = union(byShape, request.getShapes());
+            BitSet sizeFilter = union(bySize, request.getSizes());
+
+            // 항목별 건수는 자기 자신의 조건만 빼고 계산
+            BitSet withoutShape = (BitSet) common.clone();
+            andIfPresent(withoutShape, sizeFilter);
+            applyCustomAvailable(withoutShape, request.getCustomAvailable());
+
+            BitSet withoutSize = (BitSet) common.clone();
+            andIfPresent(withoutSize, shapeFilter);
+            applyCustomAvailable(withoutSize, request.getCustomAvailable());
+
+            BitSet withoutCustom = (BitSet) common.clone();
+            andIfPresent(withoutCustom, shapeFilter);
+            andIfPresent(withoutCustom, sizeFilter);
+
+            BitSet matches = (BitSet) withoutCustom.clone();
+            applyCustomAvailable(matches, request.getCustomAvailable());
+
+            Map<ProductShape, Integer> shapeCounts = new EnumMap<>(ProductShape.class);
+            for (ProductShape shape : ProductShape.values()) {
+                shapeCounts.put(shape, intersectionCount(withoutShape, byShape[shape.ordinal()]));
+            }
+            Map<ProductSize, Integer> sizeCounts = new EnumMap<>(ProductSize.class);
+            for (ProductSize productSize : ProductSize.values()) {
+                sizeCounts.put(productSize, intersectionCount(withoutSize, bySize[productSize.ordinal()]));
+            }
+            int customCount = intersectionCount(withoutCustom, customAvailable);
+
+            int total = matches.cardinality();
+            long from = (long) page * size;
+            List<Long> pageIds = new ArrayList<>();
+            if (from < total) {
+                int to = (int) Math.min(from + size, total);
+                int[][] ordering = ordering(sort);
+                int[] rank = ordering[0];
+                int[] order = ordering[1];
+                int[] ranks = new int[total];
+                int i = 0;
+                for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                    ranks[i++] = rank[slot];
+                }
+                Arrays.sort(ranks);
+                for (int position = (int) from; position < to; position++) {
+                    pageIds.add(ids[order[ranks[position]]]);
+                }
+            }
+            return new FilterResult(pageIds, total, shapeCounts, sizeCounts, customCount);
+        }
+
+        private void applyRanges(BitSet target, ProductFilterRequest request) {
+            boolean hasMin = request.getMinPrice() != null;
+            boolean hasMax = request.getMaxPrice() != null;
+            boolean hasDays = request.getMaxProductionDays() != null;
+            if (!hasMin && !hasMax && !hasDays) {
+                return;
+            }
+            long minPrice = hasMin ? toMinorUnits(request.getMinPrice()) : Long.MIN_VALUE;
+            long maxPrice = hasMax ? toMinorUnits(request.getMaxPrice()) : Long.MAX_VALUE;
+            int maxDays = hasDays ? request.getMaxProductionDays() : Integer.MAX_VALUE;
+            for (int slot = target.nextSetBit(0); slot >= 0; slot = target.nextSetBit(slot + 1)) {
+                if (prices[slot] < minPrice || prices[slot] > maxPrice || productionDays[slot] > maxDays) {
+                    target.clear(slot);
+                }
+            }
+        }
+
+        private void applyCustomAvailable(BitSet target, Boolean required) {
+            if (Boolean.TRUE.equals(required)) {
+                target.and(customAvailable);
+            } else if (Boolean.FALSE.equals(required)) {
+                target.andNot(customAvailable);
+            }
+        }
+
+        private void invalidateOrderings() {
+            synchronized (orderings) {
+                Arrays.fill(orderings, null);
+            }
+        }
+
+        private int[][] ordering(ProductSortType sort) {
+            synchronized (orderings) {
+                int[][] ordering = orderings[sort.ordinal()];
+                if (ordering == null) {
+                    ordering = computeOrdering(sort);
+                    orderings[sort.ordinal()] = ordering;
+                }
+                return ordering;
+            }
+        }
+
+        /**
+         * 정렬 값과 ID를 각각 순위로 압축해 long 하나로 묶은 뒤 기본형 배열로 정렬
+         * PRICE_ASC만 오름차순(ID도 오름차순)이고 나머지는 값, ID 모두 내림차순
+         */
+        private int[][] computeOrdering(ProductSortType sort) {
+            long[] values = new long[count];
+            for (int slot = 0; slot < count; slot++) {
+                values[slot] = switch (sort) {
+                    case UPDATED_AT_DESC -> updatedAt[slot];
+                    case PRICE_ASC, PRICE_DESC -> prices[slot];
+                    case RECOMMEND -> sortableBits(scores[slot]);
+                    default -> createdAt[slot];
+                };
+            }
+            boolean descending = sort != ProductSortType.PRICE_ASC;
+            int[] valueRanks = denseRanks(values);
+            int[] idRanks = denseRanks(Arrays.copyOf(ids, count));
+
+            int[] slotByIdRank = new int[count];
+            long[] keys = new long[count];
+            for (int slot = 0; slot < count; slot++) {
+                slotByIdRank[idRanks[slot]] = slot;
+                int valueRank = descending ? Integer.MAX_VALUE - valueRanks[slot] : valueRanks[slot];
+                int idRank = descending ? Integer.MAX_VALUE - idRanks[slot] : idRanks[slot];
+                keys[slot] = ((long) valueRank << 32) | idRank;
+            }
+            Arrays.sort(keys);
+
+            int[] rank = new int[count];
+            int[] order = new int[count];
+            for (int position = 0; position < count; position++) {
+                int idRank = (int) keys[position];
+                int slot = slotByIdRank[descending ? Integer.MAX_VALUE - idRank : idRank];
+                rank[slot] = position;
+                order[position] = slot;
+            }
+            return new int[][]{rank, order};
+        }
+
+        // 값 → 중복을 뺀 오름차순 순위 (0부터)
+        private static int[] denseRanks(long[] values) {
+            long[] distinct = values.clone();
+            Arrays.sort(distinct);
+            int unique = 0;
+            for (int i = 0; i < distinct.length; i++) {
+                if (i == 0 || distinct[i] != distinct[unique - 1]) {
+                    distinct[unique++] = distinct[i];
+                }
+            }
+            int[] ranks = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                ranks[i] = Arrays.binarySearch(distinct, 0, unique, values[i]);
+            }
+            return ranks;
+        }
+
+        // Double.compare와 같은 순서가 되는 long
+        private static long sortableBits(double value) {
+            long bits = Double.doubleToLongBits(value);
+            return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+
+        private static <E extends Enum<E>> BitSet union(BitSet[] bitsByOrdinal, List<E> values) {
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            BitSet union = new BitSet();
+            for (E value : values) {
+                if (value != null) {
+                    union.or(bitsByOrdinal[value.ordinal()]);
+                }
+            }
+            return union;
+        }
+
+        private static void andIfPresent(BitSet target, BitSet filter) {
+            if (filter != null) {
+                target.and(filter);
+            }
+        }
+
+        private static int intersectionCount(BitSet left, BitSet right) {
+            BitSet intersection = (BitSet) left.clone();
+            intersection.and(right);
+            return intersection.cardinality();
+        }
+
+        private static byte setOrdinal(BitSet[] bitsByOrdinal, int slot, int ordinal) {
+            for (BitSet bits : bitsByOrdinal) {
+                bits.clear(slot);
+            }
+            if (ordinal >= 0) {
+                bitsByOrdinal[ordinal].set(slot);
+            }
+            return (byte) ordinal;
+        }
+
+        private static BitSet[] newBitSets(int length) {
+            BitSet[] bitSets = new BitSet[length];
+            for (int i = 0; i < length; i++) {
+                bitSets[i] = new BitSet();
+            }
+            return bitSets;
+        }
+    }
+}
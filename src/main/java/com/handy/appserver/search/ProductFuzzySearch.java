@@ -0,0 +1,142 @@
+package com.handy.appserver.search;
+
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 상품명 오타 허용 검색 (JVM 메모리, 자모 분해 n-gram)
+ * - "네알팁"처럼 자모 하나가 틀린 검색어도 "네일팁"을 찾음
+ * - 같은 편집 거리 안에서는 추천 점수 순
+ * - 상품 생성/수정/비활성화는 커밋 이후 해당 상품만 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFuzzySearch {
+
+    private final ProductRepository productRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private FuzzyIndex index = new FuzzyIndex();
+
+    // 재구축 중 들어온 변경 (재구축 결과 교체 후 재적용)
+    private List<ProductChangedEvent> pendingEvents;
+    private Map<Long, Double> pendingScores;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async("indexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+            pendingScores = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        FuzzyIndex newIndex = new FuzzyIndex();
+        try {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(true);
+            List<Object[]> rows = tx.execute(status -> productRepository.findActiveAutocompleteRows());
+            for (Object[] row : rows) {
+                newIndex.put((Long) row[0], (String) row[1], ((Number) row[2]).doubleValue());
+            }
+        } catch (RuntimeException e) {
+            log.error("Product fuzzy index rebuild failed", e);
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+                pendingScores = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = newIndex;
+            pendingEvents.forEach(this::applyLocked);
+            pendingScores.forEach(index::updateScore);
+            pendingEvents = null;
+            pendingScores = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product fuzzy index rebuilt - products: {}, took {}ms",
+                newIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 추천 점수 반영 (상품 ID → 새 점수)
+     */
+    public void updateScores(Map<Long, Double> scores) {
+        lock.writeLock().lock();
+        try {
+            scores.forEach(index::updateScore);
+            if (pendingScores != null) {
+                pendingScores.putAll(scores);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 편집 거리가 가까운 순, 같은 거리는 추천 점수 순 상품 ID (최대 FuzzyIndex.MAX_RESULTS건)
+     */
+    public List<Long> search(String keyword) {
+        lock.readLock().lock();
+        try {
+            return index.search(keyword).stream().map(FuzzyIndex.Match::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyLocked(ProductChangedEvent event) {
+        if (event.isActive()) {
+            index.put(event.getProductId(), event.getName(), event.getRecommendScore());
+        } else {
+            index.remove(event.getProductId());
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package com.handy.appserver.search;
+
+import com.handy.appserver.dto.ProductCursor;
+import com.handy.appserver.entity.product.Product;
+import com.handy.appserver.entity.product.ProductSortType;
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.repository.ProductRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 상품명/설명 n-gram 역색인 (JVM 메모리)
+ * - LIKE '%keyword%' 풀스캔 대신 1-gram/2-gram 포스팅 교집합으로 후보를 찾고 원문 포함 여부로 검증
+ * - 상품 변경은 커밋 이후 이벤트로 증분 반영, 기동 시 백그라운드에서 전체 재구축
+ * - 재구축이 끝나기 전(isReady == false)에는 호출 측이 기존 DB 쿼리로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final String RECOMMEND_SEPARATOR = ",";
+    private static final String NULL_VALUE = "null";
+
+    private final ProductRepository productRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, IndexedProduct> documents = new HashMap<>();
+    private Map<String, Set<Long>> postings = new HashMap<>();
+
+    // 재구축 중 들어온 변경 이벤트 (재구축 결과 교체 후 재적용)
+    private List<ProductChangedEvent> pendingDuringRebuild;
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async("indexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, IndexedProduct> newDocuments = new HashMap<>();
+        Map<String, Set<Long>> newPostings = new HashMap<>();
+        try {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(true);
+            int pageNumber = 0;
+            boolean hasNext = true;
+            while (hasNext) {
+                final int current = pageNumber++;
+                hasNext = Boolean.TRUE.equals(tx.execute(status -> {
+                    Page<Product> page = productRepository.findAll(
+                            PageRequest.of(current, REBUILD_PAGE_SIZE, Sort.by("id")));
+                    for (Product product : page.getContent()) {
+                        IndexedProduct doc = IndexedProduct.from(
+                                ProductChangedEvent.of(ProductChangedEvent.ChangeType.UPDATED, product));
+                        newDocuments.put(doc.getId(), doc);
+                        addPostings(newPostings, doc);
+                    }
+                    return page.hasNext();
+                }));
+            }
+        } catch (RuntimeException e) {
+            log.error("Product search index rebuild failed", e);
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents = newDocuments;
+            postings = newPostings;
+            for (ProductChangedEvent event : pendingDuringRebuild) {
+                applyLocked(event);
+            }
+            pendingDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product search index rebuilt - products: {}, grams: {}, took {}ms",
+                newDocuments.size(), newPostings.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        apply(event);
+    }
+
+    public void apply(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(ProductChangedEvent event) {
+        IndexedProduct previous = documents.remove(event.getProductId());
+        if (previous != null) {
+            removePostings(postings, previous);
+        }
+        IndexedProduct doc = IndexedProduct.from(event);
+        documents.put(doc.getId(), doc);
+        addPostings(postings, doc);
+    }
+
+    /**
+     * 키워드가 상품명 또는 설명에 포함된 상품 ID 목록
+     * @param keyword 검색어 (공백/대소문자/NFD 입력 무시)
+     * @param filter 활성 여부, 판매자, 카테고리 등의 추가 조건
+     * @param sort 정렬 기준 (RECOMMEND는 검색 관련도순)
+     */
+    public List<Long> search(String keyword, Predicate<IndexedProduct> filter, ProductSortType sort) {
+        return searchAfter(keyword, filter, sort, null, Integer.MAX_VALUE).ids();
+    }
+
+    /**
+     * 커서 이후의 검색 결과
+     * 커서에 담긴 (정렬 값, ID)를 같은 정렬 기준으로 이진 탐색해 위치를 찾으므로,
+     * 마지막 상품이 그 사이 수정/삭제되거나 결과가 추가되어도 처음부터 다시 시작하거나 중복되지 않음
+     * @param after 이전 페이지의 SearchPage.next (첫 페이지는 null)
+     */
+    public SearchPage searchAfter(String keyword, Predicate<IndexedProduct> filter, ProductSortType sort,
+                                  ProductCursor after, int limit) {
+        String query = KoreanText.normalize(keyword);
+        if (query.isEmpty()) {
+            return new SearchPage(List.of(), 0, null);
+        }
+        ProductSortType sortType = sort != null ? sort : ProductSortType.CREATED_AT_DESC;
+        Comparator<ScoredProduct> comparator = comparator(sortType);
+        ScoredProduct seek = after != null ? seekKey(sortType, after) : null;
+
+        lock.readLock().lock();
+        try {
+            List<ScoredProduct> matches = match(query, filter);
+            matches.sort(comparator);
+
+            int start = 0;
+            if (seek != null) {
+                int position = Collections.binarySearch(matches, seek, comparator);
+                start = position >= 0 ? position + 1 : -position - 1;
+            }
+            int end = (int) Math.min((long) start + limit, matches.size());
+            List<Long> ids = matches.subList(start, end).stream()
+                    .map(match -> match.product().getId())
+                    .collect(Collectors.toList());
+            ProductCursor next = end < matches.size() && end > start ? cursorOf(sortType, matches.get(end - 1)) : null;
+            return new SearchPage(ids, matches.size(), next);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<ScoredProduct> match(String query, Predicate<IndexedProduct> filter) {
+        Set<String> grams = KoreanText.ngrams(query, query.codePointCount(0, query.length()) == 1 ? 1 : 2);
+        List<Set<Long>> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return new ArrayList<>();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<ScoredProduct> matches = new ArrayList<>();
+        for (Long id : lists.get(0)) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(id);
+            }
+            if (!inAll) {
+                continue;
+            }
+            IndexedProduct doc = documents.get(id);
+            int score = doc.score(query);
+            if (score > 0 && filter.test(doc)) {
+                matches.add(new ScoredProduct(doc, score));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 정렬 위치를 나타내는 커서
+     * RECOMMEND는 검색 관련도순이므로 값에 (관련도, 등록 시각)을 함께 담음
+     */
+    private static ProductCursor cursorOf(ProductSortType sort, ScoredProduct match) {
+        IndexedProduct product = match.product();
+        String value = switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> product.getPrice() != null ? product.getPrice().toPlainString() : null;
+            case UPDATED_AT_DESC -> dateTimeValue(product.getUpdatedAt());
+            case RECOMMEND -> match.score() + RECOMMEND_SEPARATOR + dateTimeValue(product.getCreatedAt());
+            default -> dateTimeValue(product.getCreatedAt());
+        };
+        return new ProductCursor(sort, String.valueOf(value), product.getId());
+    }
+
+    // 커서 값을 정렬 비교에 쓸 수 있는 검색 결과 형태로 변환 (색인에 현재 들어 있는 상품 상태와 무관)
+    private static ScoredProduct seekKey(ProductSortType sort, ProductCursor cursor) {
+        try {
+            String value = cursor.getValue();
+            return switch (sort) {
+                case PRICE_ASC, PRICE_DESC -> new ScoredProduct(
+                        IndexedProduct.seekKey(cursor.getId(), NULL_VALUE.equals(value) ? null : new BigDecimal(value), null, null), 0);
+                case UPDATED_AT_DESC -> new ScoredProduct(
+                        IndexedProduct.seekKey(cursor.getId(), null, null, parseDateTime(value)), 0);
+                case RECOMMEND -> {
+                    String[] parts = value.split(RECOMMEND_SEPARATOR, 2);
+                    yield new ScoredProduct(
+                            IndexedProduct.seekKey(cursor.getId(), null, parseDateTime(parts[1]), null), Integer.parseInt(parts[0]));
+                }
+                default -> new ScoredProduct(
+                        IndexedProduct.seekKey(cursor.getId(), null, parseDateTime(value), null), 0);
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    private static String dateTimeValue(LocalDateTime value) {
+        return value != null ? value.toString() : NULL_VALUE;
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return NULL_VALUE.equals(value) ? null : LocalDateTime.parse(value);
+    }
+
+    private static Comparator<ScoredProduct> comparator(ProductSortType sort) {
+        Comparator<ScoredProduct> byId = Comparator.comparing(match -> match.product().getId());
+        return switch (sort) {
+            case CREATED_AT_DESC -> Comparator.comparing((ScoredProduct match) -> match.product().getCreatedAt(),
+                    Comparator.nullsLast(Comparator.reverseOrder())).thenComparing(byId.reversed());
+            case UPDATED_AT_DESC -> Comparator.comparing((ScoredProduct match) -> match.product().getUpdatedAt(),
+                    Comparator.nullsLast(Comparator.reverseOrder())).thenComparing(byId.reversed());
+            case PRICE_ASC -> Comparator.comparing((ScoredProduct match) -> match.product().getPrice(),
+                    Comparator.nullsLast(Comparator.naturalOrder())).thenComparing(byId);
+            case PRICE_DESC -> Comparator.comparing((ScoredProduct match) -> match.product().getPrice(),
+                    Comparator.nullsLast(Comparator.reverseOrder())).thenComparing(byId.reversed());
+            case RECOMMEND -> Comparator.comparingInt(ScoredProduct::score).reversed()
+                    .thenComparing(match -> match.product().getCreatedAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(byId.reversed());
+        };
+    }
+
+    private static void addPostings(Map<String, Set<Long>> target, IndexedProduct doc) {
+        for (String gram : doc.grams()) {
+            target.computeIfAbsent(gram, key -> new HashSet<>()).add(doc.getId());
+        }
+    }
+
+    private static void removePostings(Map<String, Set<Long>> target, IndexedProduct doc) {
+        for (String gram : doc.grams()) {
+            Set<Long> posting = target.get(gram);
+            if (posting != null) {
+                posting.remove(doc.getId());
+                if (posting.isEmpty()) {
+                    target.remove(gram);
+                }
+            }
+        }
+    }
+
+    private record ScoredProduct(IndexedProduct product, int score) {
+    }
+
+    /**
+     * @param ids 요청 범위의 상품 ID (정렬 순서)
+     * @param total 전체 검색 결과 수
+     * @param next 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    public record SearchPage(List<Long> ids, int total, ProductCursor next) {
+
+        public boolean hasNext() {
+            return next != null;
+        }
+    }
+
+    /**
+     * 색인된 상품 문서 (검색/필터/정렬에 필요한 값만 보관)
+     */
+    @Getter
+    public static class IndexedProduct {
+        private final Long id;
+        private final String normalizedName;
+        private final String normalizedDescription;
+        private final BigDecimal price;
+        private final boolean active;
+        private final Long sellerId;
+        private final Set<Long> categoryIds;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        private IndexedProduct(ProductChangedEvent event) {
+            this.id = event.getProductId();
+            this.normalizedName = KoreanText.normalize(event.getName());
+            this.normalizedDescription = KoreanText.normalize(event.getDescription());
+            this.price = event.getPrice();
+            this.active = event.isActive();
+            this.sellerId = event.getSellerId();
+            this.categoryIds = Set.copyOf(event.getCategoryIds());
+            this.createdAt = event.getCreatedAt();
+            this.updatedAt = event.getUpdatedAt();
+        }
+
+        private IndexedProduct(Long id, BigDecimal price, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.id = id;
+            this.normalizedName = "";
+            this.normalizedDescription = "";
+            this.price = price;
+            this.active = false;
+            this.sellerId = null;
+            this.categoryIds = Set.of();
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+
+        static IndexedProduct from(ProductChangedEvent event) {
+            return new IndexedProduct(event);
+        }
+
+        // 커서 위치 비교용 (정렬에 쓰는 값만 채움)
+        private static IndexedProduct seekKey(Long id, BigDecimal price, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            return new IndexedProduct(id, price, createdAt, updatedAt);
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            grams.addAll(KoreanText.ngrams(normalizedName, 1));
+            grams.addAll(KoreanText.ngrams(normalizedName, 2));
+            grams.addAll(KoreanText.ngrams(normalizedDescription, 1));
+            grams.addAll(KoreanText.ngrams(normalizedDescription, 2));
+            return grams;
+        }
+
+        /**
+         * 검색 관련도 (0이면 불일치)
+         * 상품명 전방일치 > 상품명 포함 > 설명 포함
+         */
+        private int score(String query) {
+            if (normalizedName.startsWith(query)) {
+                return 3;
+            }
+            if (normalizedName.contains(query)) {
+                return 2;
+            }
+            if (normalizedDescription.contains(query)) {
+                return 1;
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.handy.appserver.search;
+
+import com.handy.appserver.event.SnapPostChangedEvent;
+import com.handy.appserver.repository.SnapPostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 스냅 제목 오타 허용 검색 (JVM 메모리, 자모 분해 n-gram)
+ * - 같은 편집 거리 안에서는 최신 게시글 순
+ * - 이 서버의 스냅 작성은 커밋 이후 해당 게시글만 반영
+ * - 다른 서버에서 작성/수정된 스냅은 짧은 주기로 updated_at 이후 변경분을 읽어 반영 (최근 lookback 구간은 매번 다시 읽음)
+ */
+@Slf4j
+@Component
+public class SnapFuzzySearch {
+
+    private final SnapPostRepository snapPostRepository;
+    private final TransactionTemplate readTransaction;
+    private final long lookbackMillis;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private FuzzyIndex index = new FuzzyIndex();
+
+    // 이 시각 이후 변경분은 아직 다른 서버 변경 반영(syncRecentChanges)으로 확인하지 않음
+    private volatile LocalDateTime syncedFrom;
+
+    // 재구축 중 들어온 변경 (재구축 결과 교체 후 재적용)
+    private List<SnapPostChangedEvent> pendingEvents;
+    private volatile boolean ready = false;
+
+    public SnapFuzzySearch(SnapPostRepository snapPostRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${search.snap.sync-lookback-ms:10000}") long lookbackMillis) {
+        this.snapPostRepository = snapPostRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.lookbackMillis = lookbackMillis;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async("indexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            rebuildExclusively();
+        }
+    }
+
+    private void rebuildExclusively() {
+        long started = System.currentTimeMillis();
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        lock.writeLock().lock();
+        try {
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        FuzzyIndex newIndex = new FuzzyIndex();
+        try {
+            List<Object[]> rows = readTransaction.execute(status -> snapPostRepository.findActiveTitleRows());
+            for (Object[] row : rows) {
+                newIndex.put((Long) row[0], (String) row[1], 0);
+            }
+        } catch (RuntimeException e) {
+            log.error("Snap fuzzy index rebuild failed", e);
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            index = newIndex;
+            pendingEvents.forEach(this::applyLocked);
+            pendingEvents = null;
+            if (syncedFrom == null) {
+                syncedFrom = loadStartedAt;
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Snap fuzzy index rebuilt - posts: {}, took {}ms",
+                newIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSnapPostChanged(SnapPostChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다른 서버에서 생성/수정된 스냅 반영
+     */
+    @Scheduled(fixedDelayString = "${search.snap.sync-interval-ms:5000}")
+    public void syncRecentChanges() {
+        LocalDateTime from = syncedFrom;
+        if (!ready || from == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = from.minusNanos(lookbackMillis * 1_000_000);
+        try {
+            List<Object[]> rows = readTransaction.execute(status -> snapPostRepository.findTitleRowsUpdatedSince(since));
+            if (!rows.isEmpty()) {
+                lock.writeLock().lock();
+                try {
+                    for (Object[] row : rows) {
+                        SnapPostChangedEvent event = new SnapPostChangedEvent((Long) row[0], (String) row[1], (Boolean) row[2]);
+                        applyLocked(event);
+                        if (pendingEvents != null) {
+                            pendingEvents.add(event);
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            syncedFrom = startedAt;
+        } catch (RuntimeException e) {
+            log.error("Snap fuzzy index sync failed", e);
+        }
+    }
+
+    /**
+     * @return 편집 거리가 가까운 순, 같은 거리는 최신순 스냅 게시글 ID (최대 FuzzyIndex.MAX_RESULTS건)
+     */
+    public List<Long> search(String keyword) {
+        lock.readLock().lock();
+        try {
+            return index.search(keyword).stream().map(FuzzyIndex.Match::id).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyLocked(SnapPostChangedEvent event) {
+        if (event.isActive()) {
+            index.put(event.getSnapPostId(), event.getTitle(), 0);
+        } else {
+            index.remove(event.getSnapPostId());
+        }
+    }
+}
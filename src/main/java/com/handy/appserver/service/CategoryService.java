@@ -0,0 +1,182 @@
+package com.handy.appserver.service;
+
+import com.handy.appserver.dto.CategoryResponse;
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.repository.CategoryRepository;
+import com.handy.appserver.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카테고리 트리 (JVM 메모리)
+ * - 전체 트리와 카테고리별 하위 카테고리 ID 집합(자기 자신 포함), 활성 상품 수를 미리 계산해 두고 요청 시 그대로 사용
+ * - 상품 변경이 있으면 다음 갱신 주기에 상품 수를 다시 집계하고, 카테고리 자체는 긴 주기로 다시 읽음
+ */
+@Slf4j
+@Service
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile CategoryTree tree;
+    private final AtomicBoolean countsDirty = new AtomicBoolean(false);
+
+    public CategoryService(CategoryRepository categoryRepository,
+                           ProductRepository productRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 전체 카테고리 트리 (최상위 카테고리 목록)
+    public List<CategoryResponse> getCategoryTree() {
+        return tree().roots();
+    }
+
+    // 카테고리 상세 (하위 카테고리 포함)
+    public CategoryResponse getCategory(Long categoryId) {
+        CategoryResponse category = tree().responses().get(categoryId);
+        if (category == null) {
+            throw new IllegalArgumentException("카테고리를 찾을 수 없습니다.");
+        }
+        return category;
+    }
+
+    /**
+     * 카테고리와 모든 하위 카테고리의 ID
+     */
+    public Set<Long> getDescendantIds(Long categoryId) {
+        Set<Long> descendantIds = tree().descendantIds().get(categoryId);
+        if (descendantIds == null) {
+            throw new IllegalArgumentException("카테고리를 찾을 수 없습니다.");
+        }
+        return descendantIds;
+    }
+
+    @Async("indexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        countsDirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${category.count-refresh-interval-ms:30000}")
+    public void refreshCountsIfDirty() {
+        if (countsDirty.compareAndSet(true, false)) {
+            refresh();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${category.refresh-interval-ms:600000}",
+               fixedDelayString = "${category.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            tree = transactionTemplate.execute(status -> load());
+        } catch (RuntimeException e) {
+            log.error("Category tree refresh failed", e);
+        }
+    }
+
+    private CategoryTree tree() {
+        CategoryTree current = tree;
+        if (current == null) {
+            synchronized (this) {
+                if (tree == null) {
+                    refresh();
+                }
+                current = tree;
+            }
+            if (current == null) {
+                throw new IllegalStateException("카테고리 정보를 불러오지 못했습니다.");
+            }
+        }
+        return current;
+    }
+
+    private CategoryTree load() {
+        Map<Long, String> names = new HashMap<>();
+        Map<Long, Long> parents = new HashMap<>();
+        Map<Long, List<Long>> children = new HashMap<>();
+        for (Object[] row : categoryRepository.findAllTreeRows()) {
+            Long id = (Long) row[0];
+            Long parentId = (Long) row[2];
+            names.put(id, (String) row[1]);
+            parents.put(id, parentId);
+            children.computeIfAbsent(parentId, key -> new ArrayList<>()).add(id);
+        }
+        children.values().forEach(Collections::sort);
+
+        Map<Long, Set<Long>> productsByCategory = new HashMap<>();
+        for (Object[] row : productRepository.findActiveCategoryProductPairs()) {
+            productsByCategory.computeIfAbsent((Long) row[0], key -> new HashSet<>()).add((Long) row[1]);
+        }
+
+        Map<Long, Set<Long>> descendantIds = new HashMap<>();
+        Map<Long, CategoryResponse> responses = new HashMap<>();
+        List<CategoryResponse> roots = new ArrayList<>();
+        for (Long rootId : children.getOrDefault(null, List.of())) {
+            roots.add(build(rootId, names, parents, children, productsByCategory, descendantIds, responses,
+                    new HashSet<>(), new HashSet<>()));
+        }
+        log.debug("Category tree loaded - categories: {}, roots: {}", responses.size(), roots.size());
+        return new CategoryTree(List.copyOf(roots), Map.copyOf(responses), Map.copyOf(descendantIds));
+    }
+
+    /**
+     * 하위 트리를 만들면서 하위 카테고리 ID와 상품 ID를 함께 모아 상품 수(중복 제외)를 계산
+     */
+    private CategoryResponse build(Long id, Map<Long, String> names, Map<Long, Long> parents,
+                                   Map<Long, List<Long>> children, Map<Long, Set<Long>> productsByCategory,
+                                   Map<Long, Set<Long>> descendantIds, Map<Long, CategoryResponse> responses,
+                                   Set<Long> subtreeIds, Set<Long> subtreeProducts) {
+        subtreeIds.add(id);
+        Set<Long> ownProducts = productsByCategory.getOrDefault(id, Set.of());
+        subtreeProducts.addAll(ownProducts);
+
+        List<CategoryResponse> childResponses = new ArrayList<>();
+        for (Long childId : children.getOrDefault(id, List.of())) {
+            Set<Long> childIds = new HashSet<>();
+            Set<Long> childProducts = new HashSet<>();
+            childResponses.add(build(childId, names, parents, children, productsByCategory, descendantIds, responses,
+                    childIds, childProducts));
+            subtreeIds.addAll(childIds);
+            subtreeProducts.addAll(childProducts);
+        }
+
+        descendantIds.put(id, Set.copyOf(subtreeIds));
+        CategoryResponse response = new CategoryResponse(id, names.get(id), parents.get(id),
+                ownProducts.size(), subtreeProducts.size(), List.copyOf(childResponses));
+        responses.put(id, response);
+        return response;
+    }
+
+    /**
+     * @param roots 최상위 카테고리 (하위 카테고리 포함)
+     * @param responses 카테고리 ID → 응답
+     * @param descendantIds 카테고리 ID → 자기 자신과 모든 하위 카테고리 ID
+     */
+    private record CategoryTree(List<CategoryResponse> roots,
+                                Map<Long, CategoryResponse> responses,
+                                Map<Long, Set<Long>> descendantIds) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.handy.appserver.service;
 
+import com.handy.appserver.cache.CountCache;
 import com.handy.appserver.dto.CommentRequest;
 import com.handy.appserver.dto.CommentResponse;
 import com.handy.appserver.entity.comment.Comment;
@@ -28,6 +29,7 @@ public class CommentService {
     private final SnapPostRepository snapPostRepository;
     private final UserRepository userRepository;
     private final LikeService likeService;
+    private final CountCache countCache;
     private static final String DEFAULT_PROFILE_IMAGE_URL = "https://handy-images-bucket.s3.ap-northeast-2.amazonaws.com/default_user.png";
 
     @Transactional
@@ -66,7 +68,10 @@ public class CommentService {
         SnapPost snapPost = snapPostRepository.findById(snapPostId)
                 .orElseThrow(() -> new IllegalArgumentException("스냅 포스트를 찾을 수 없습니다."));
 
-        Page<Comment> comments = commentRepository.findBySnapPostAndParentIsNullAndIsActiveTrueOrderByCreatedAtDesc(snapPost, pageable);
+        Page<Comment> comments = countCache.toPage(
+                commentRepository.findBySnapPostAndParentIsNullAndIsActiveTrueOrderByCreatedAtDesc(snapPost, pageable),
+                "comments:snap:" + snapPostId,
+                () -> commentRepository.countBySnapPostAndParentIsNullAndIsActiveTrue(snapPost));
         return comments.map(comment -> convertToResponseWithReplies(comment, currentUser));
     }
 
@@ -0,0 +1,172 @@
+package com.handy.appserver.service;
+
+import com.handy.appserver.storage.ObjectStorage;
+import com.handy.appserver.storage.Thumbnails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 확정된 이미지의 썸네일 생성 (Thumbnails.WIDTHS 폭별 JPEG)
+ * - 디코딩/리사이즈는 CPU 작업이라 imageDerivativeExecutor에서 실행하고, S3 읽기/쓰기는 ObjectStorage로 비동기 처리
+ * - 원본은 MAX_SOURCE_BYTES까지만 Range로 읽고, 더 크면 건너뜀
+ * - 큰 원본은 가장 큰 썸네일 폭의 2배 정도까지만 건너뛰며 디코딩해 메모리/시간을 줄임
+ * - 같은 원본이면 항상 같은 key에 쓰므로 여러 번 실행해도 결과가 같음
+ * - ImageIO가 읽지 못하는 형식이나 실패는 로그만 남김 (호출 측은 결과가 true일 때만 thumbnail_ready로 표시하고, 그 외에는 클라이언트가 원본을 사용)
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final long MAX_SOURCE_BYTES = 30L * 1024 * 1024;
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;  // 압축 폭탄 방지
+    private static final float JPEG_QUALITY = 0.8f;
+    // 썸네일 key는 원본마다 고유하고 바뀌지 않음
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ObjectStorage storage;
+    private final Executor derivativeExecutor;
+
+    public ImageDerivativeService(ObjectStorage storage,
+                                  @Qualifier("imageDerivativeExecutor") Executor derivativeExecutor) {
+        this.storage = storage;
+        this.derivativeExecutor = derivativeExecutor;
+    }
+
+    /**
+     * @return 썸네일을 모두 올렸으면 true, 건너뛰었거나 실패했으면 false (예외 없이 완료)
+     */
+    public CompletableFuture<Boolean> generate(String originalKey) {
+        if (!Thumbnails.hasThumbnails(originalKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return storage.get(originalKey, MAX_SOURCE_BYTES)
+                .thenApplyAsync(content -> content
+                        .map(bytes -> render(originalKey, bytes))
+                        .orElseGet(() -> {
+                            log.warn("Skipping thumbnails for large image - key: {}, limit: {} bytes", originalKey, MAX_SOURCE_BYTES);
+                            return Collections.emptyMap();
+                        }), derivativeExecutor)
+                .thenCompose(thumbnails -> CompletableFuture.allOf(thumbnails.entrySet().stream()
+                                .map(thumbnail -> storage.put(thumbnail.getKey(), thumbnail.getValue(), "image/jpeg", CACHE_CONTROL))
+                                .toArray(CompletableFuture[]::new))
+                        .thenApply(done -> !thumbnails.isEmpty()))
+                .exceptionally(e -> {
+                    log.warn("Thumbnail generation failed - key: {}", originalKey, e);
+                    return false;
+                });
+    }
+
+    // 썸네일 key → JPEG
+    private Map<String, byte[]> render(String originalKey, byte[] content) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.debug("Unsupported image format, skipping thumbnails - key: {}", originalKey);
+                return Collections.emptyMap();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    log.warn("Skipping thumbnails for huge image - key: {}, size: {}x{}", originalKey, width, height);
+                    return Collections.emptyMap();
+                }
+                int largestWidth = Collections.max(Thumbnails.WIDTHS);
+                int subsampling = Math.max(1, width / (largestWidth * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage source = reader.read(0, param);
+
+                Map<String, byte[]> thumbnails = new LinkedHashMap<>();
+                for (int targetWidth : Thumbnails.WIDTHS) {
+                    // 원본보다 크게 늘리지는 않음
+                    BufferedImage thumbnail = resize(source, Math.min(targetWidth, source.getWidth()));
+                    thumbnails.put(Thumbnails.keyFor(originalKey, targetWidth), encodeJpeg(thumbnail));
+                }
+                return thumbnails;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 한 번에 절반 이하로 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤
+    private BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        List<int[]> steps = new ArrayList<>();
+        while (width / 2 >= targetWidth) {
+            width /= 2;
+            height = Math.max(1, height / 2);
+            steps.add(new int[]{width, height});
+        }
+        steps.add(new int[]{targetWidth, targetHeight});
+        for (int[] step : steps) {
+            current = draw(current, step[0], step[1]);
+        }
+        return current;
+    }
+
+    // JPEG은 투명도가 없으므로 흰 배경 위에 그림
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,144 @@
+package com.handy.appserver.service;
+
+import com.handy.appserver.entity.image.ImageFinalizationJob;
+import com.handy.appserver.entity.image.ImageJobType;
+import com.handy.appserver.entity.product.Product;
+import com.handy.appserver.entity.product.ProductImage;
+import com.handy.appserver.entity.snap.SnapImage;
+import com.handy.appserver.entity.snap.SnapPost;
+import com.handy.appserver.repository.ImageFinalizationJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이미지 확정 작업 등록
+ * 호출한 트랜잭션 안에서 작업 행만 저장하고(S3 호출 없음), 커밋되면 ImageFinalizationWorker에 바로 넘김
+ * 롤백되면 작업도 함께 사라지고 임시 파일은 그대로 남으므로 같은 URL로 다시 요청할 수 있음
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ImageFinalizationService {
+
+    private final ImageFinalizationJobRepository jobRepository;
+    private final ImageFinalizationWorker worker;
+    private final S3Service s3Service;
+
+    /**
+     * 임시 폴더 이미지이거나 업로드 세션으로 이 상품 폴더에 바로 올린 이미지인지 확인 (S3 호출 없이 URL만 검사)
+     * @param productId 상품 ID (아직 ID가 없는 새 상품이면 null, 임시 폴더 이미지만 허용)
+     */
+    public void requireProductImageUrl(String imageUrl, Long productId) {
+        if (imageUrl != null && !s3Service.isTempImageUrl(imageUrl)
+                && (productId == null || !s3Service.isProductFolderImageUrl(imageUrl, productId))) {
+            throw new IllegalArgumentException("업로드 URL로 올린 이미지만 등록할 수 있습니다: " + imageUrl);
+        }
+    }
+
+    /**
+     * 임시 폴더 이미지이거나 업로드 세션으로 이 사용자의 프로필 폴더에 바로 올린 이미지인지 확인
+     */
+    public void requireProfileImageUrl(String imageUrl, Long userId) {
+        if (imageUrl != null && !s3Service.isTempImageUrl(imageUrl) && !s3Service.isProfileFolderImageUrl(imageUrl, userId)) {
+            throw new IllegalArgumentException("업로드 URL로 올린 이미지만 등록할 수 있습니다: " + imageUrl);
+        }
+    }
+
+    /**
+     * 상품의 대표/상세 이미지 중 아직 임시 URL을 가리키는 것만 확정 작업으로 등록
+     * 상품과 상세 이미지는 ID가 정해진 뒤(저장 이후)에 호출해야 함
+     */
+    public void enqueueProductImages(Product product) {
+        List<ImageFinalizationJob> jobs = new ArrayList<>();
+        if (product.getMainImageUrl() != null && s3Service.isTempImageUrl(product.getMainImageUrl())) {
+            jobs.add(new ImageFinalizationJob(ImageJobType.PRODUCT_MAIN, product.getId(), null, product.getMainImageUrl()));
+        }
+        for (ProductImage image : product.getDetailImages()) {
+            if (s3Service.isTempImageUrl(image.getImageUrl())) {
+                jobs.add(new ImageFinalizationJob(ImageJobType.PRODUCT_DETAIL, product.getId(), image.getId(), image.getImageUrl()));
+            }
+        }
+        enqueue(jobs);
+    }
+
+    /**
+     * 스냅 이미지 중 임시 URL을 가리키는 것만 확정 작업으로 등록 (저장 이후 호출)
+     */
+    public void enqueueSnapImages(SnapPost snapPost) {
+        List<ImageFinalizationJob> jobs = new ArrayList<>();
+        for (SnapImage image : snapPost.getImages()) {
+            if (s3Service.isTempImageUrl(image.getImageUrl())) {
+                jobs.add(new ImageFinalizationJob(ImageJobType.SNAP_IMAGE, snapPost.getId(), image.getId(), image.getImageUrl()));
+            }
+        }
+        enqueue(jobs);
+    }
+
+    /**
+     * 임시 폴더 이미지면 프로필 폴더로 옮기고, 이미 프로필 폴더에 바로 올린 이미지면 썸네일만 생성
+     */
+    public void enqueueProfileImage(Long userId, String imageUrl) {
+        ImageJobType type = s3Service.isTempImageUrl(imageUrl) ? ImageJobType.USER_PROFILE : ImageJobType.THUMBNAILS;
+        enqueue(List.of(new ImageFinalizationJob(type, userId, null, imageUrl)));
+    }
+
+    /**
+     * 업로드 세션으로 최종 key에 바로 올린 상품 이미지의 썸네일 생성 (임시 폴더 이미지는 확정 작업에서 만들므로 제외)
+     * 생성이 끝나면 그 상품에서 아직 이 이미지를 쓰는 대표/상세 이미지를 thumbnail_ready로 표시
+     */
+    public void enqueueThumbnails(Long productId, Collection<String> imageUrls) {
+        List<ImageFinalizationJob> jobs = new ArrayList<>();
+        for (String imageUrl : imageUrls) {
+            if (imageUrl != null && !s3Service.isTempImageUrl(imageUrl)) {
+                jobs.add(new ImageFinalizationJob(ImageJobType.THUMBNAILS, productId, null, imageUrl));
+            }
+        }
+        enqueue(jobs);
+    }
+
+    /**
+     * 더 이상 쓰지 않는 프로필 이미지를 임시 폴더로 이동
+     */
+    public void enqueueProfileArchive(String profileImageUrl) {
+        enqueue(List.of(new ImageFinalizationJob(ImageJobType.ARCHIVE_PROFILE, null, null, profileImageUrl)));
+    }
+
+    /**
+     * 교체되어 더 이상 참조하지 않는 이미지 삭제
+     */
+    public void enqueueDeletes(Collection<String> imageUrls) {
+        List<ImageFinalizationJob> jobs = new ArrayList<>();
+        for (String imageUrl : imageUrls) {
+            if (imageUrl != null) {
+                jobs.add(new ImageFinalizationJob(ImageJobType.DELETE, null, null, imageUrl));
+            }
+        }
+        enqueue(jobs);
+    }
+
+    private void enqueue(List<ImageFinalizationJob> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        List<Long> jobIds = new ArrayList<>();
+        List<Long> deleteJobIds = new ArrayList<>();
+        for (ImageFinalizationJob job : jobRepository.saveAll(jobs)) {
+            (job.getType() == ImageJobType.DELETE ? deleteJobIds : jobIds).add(job.getId());
+        }
+        // 커밋 전에 처리하면 작업 행이나 대상 행이 아직 보이지 않으므로 커밋 이후에 넘김 (놓쳐도 주기 조회에서 처리)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jobIds.forEach(worker::dispatch);
+                worker.dispatchDeletes(deleteJobIds);
+            }
+        });
+    }
+}
@@ -0,0 +1,358 @@
+package com.handy.appserver.service;
+
+import com.handy.appserver.entity.image.ImageFinalizationJob;
+import com.handy.appserver.entity.image.ImageJobStatus;
+import com.handy.appserver.entity.image.ImageJobType;
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.repository.ImageFinalizationJobRepository;
+import com.handy.appserver.repository.ProductImageRepository;
+import com.handy.appserver.repository.ProductRepository;
+import com.handy.appserver.repository.SnapImageRepository;
+import com.handy.appserver.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 이미지 확정 작업 처리 (트랜잭션 커밋 이후 imageTaskExecutor에서 실행)
+ * - 작업마다 DB 갱신은 짧은 트랜잭션으로만 하고, S3 복사/삭제는 트랜잭션 밖에서 실행
+ * - 최종 key에 작업 ID를 넣어 재시도해도 같은 key로 복사되고, URL은 아직 원본 URL을 가리킬 때만 갱신하므로 여러 번 실행해도 결과가 같음
+ * - 실패하면 지수 백오프로 재시도하고 max-attempts를 넘으면 FAILED로 남김
+ * - 서버가 처리 중에 멈춰도 점유 시간이 지나면 주기 조회에서 다시 가져감
+ * - 삭제 작업은 함께 등록/조회된 것끼리 묶어 DeleteObjects 한 번으로 처리
+ * - 확정한 이미지는 URL을 갱신하기 전에 썸네일을 만들어 두고, 삭제/보관할 때 썸네일도 함께 지움
+ * - S3 호출은 기다리지 않고 이어 붙이며, DB 갱신 단계만 imageTaskExecutor로 넘겨 실행
+ *   (넘기지 못하면 PROCESSING으로 남고 점유 시간이 지난 뒤 주기 조회에서 다시 처리)
+ */
+@Slf4j
+@Component
+public class ImageFinalizationWorker {
+
+    private static final List<ImageJobStatus> CLAIMABLE = List.of(ImageJobStatus.PENDING, ImageJobStatus.PROCESSING);
+    private static final int POLL_SIZE = 100;
+    private static final long BASE_BACKOFF_SECONDS = 5;
+
+    private final ImageFinalizationJobRepository jobRepository;
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final UserRepository userRepository;
+    private final SnapImageRepository snapImageRepository;
+    private final S3Service s3Service;
+    private final ImageDerivativeService derivativeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor imageTaskExecutor;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+    private final int maxAttempts;
+    private final long leaseSeconds;
+    private final long retentionDays;
+
+    public ImageFinalizationWorker(ImageFinalizationJobRepository jobRepository,
+                                   ProductRepository productRepository,
+                                   ProductImageRepository productImageRepository,
+                                   UserRepository userRepository,
+                                   SnapImageRepository snapImageRepository,
+                                   S3Service s3Service,
+                                   ImageDerivativeService derivativeService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Qualifier("imageTaskExecutor") Executor imageTaskExecutor,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${image.finalize.max-attempts:6}") int maxAttempts,
+                                   @Value("${image.finalize.lease-seconds:300}") long leaseSeconds,
+                                   @Value("${image.finalize.retention-days:7}") long retentionDays) {
+        this.jobRepository = jobRepository;
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+        this.userRepository = userRepository;
+        this.snapImageRepository = snapImageRepository;
+        this.s3Service = s3Service;
+        this.derivativeService = derivativeService;
+        this.eventPublisher = eventPublisher;
+        this.imageTaskExecutor = imageTaskExecutor;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.maxAttempts = maxAttempts;
+        this.leaseSeconds = leaseSeconds;
+        this.retentionDays = retentionDays;
+    }
+
+    public void dispatch(Long jobId) {
+        execute(() -> process(jobId));
+    }
+
+    public void dispatchDeletes(List<Long> jobIds) {
+        if (!jobIds.isEmpty()) {
+            execute(() -> processDeletes(jobIds));
+        }
+    }
+
+    // 큐가 가득 차 넘기지 못한 작업은 DB에 남아 있으므로 주기 조회(PROCESSING이면 점유 시간이 지난 뒤)에서 다시 처리
+    private void execute(Runnable task) {
+        try {
+            imageTaskExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Image task queue is full, leaving job for the next poll");
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 작업과 커밋 직후 바로 처리하지 못한 작업(서버 재시작 등)을 가져와 처리
+     */
+    @Scheduled(fixedDelayString = "${image.finalize.poll-interval-ms:5000}")
+    public void pollDueJobs() {
+        try {
+            List<ImageFinalizationJob> jobs = readTransaction.execute(status ->
+                    jobRepository.findDue(CLAIMABLE, LocalDateTime.now(), PageRequest.of(0, POLL_SIZE)));
+            List<Long> deleteJobIds = new ArrayList<>();
+            for (ImageFinalizationJob job : jobs) {
+                if (job.getType() == ImageJobType.DELETE) {
+                    deleteJobIds.add(job.getId());
+                } else {
+                    dispatch(job.getId());
+                }
+            }
+            dispatchDeletes(deleteJobIds);
+        } catch (RuntimeException e) {
+            log.error("Image finalization poll failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${image.finalize.cleanup-interval-ms:3600000}")
+    public void cleanupDoneJobs() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        try {
+            Integer deleted = writeTransaction.execute(status ->
+                    jobRepository.deleteByStatusBefore(ImageJobStatus.DONE, before));
+            log.debug("Image finalization jobs cleaned up - deleted: {}", deleted);
+        } catch (RuntimeException e) {
+            log.error("Image finalization cleanup failed", e);
+        }
+    }
+
+    void process(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = writeTransaction.execute(status -> jobRepository.claim(
+                jobId, CLAIMABLE, ImageJobStatus.PROCESSING, now, now.plusSeconds(leaseSeconds)));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+        ImageFinalizationJob job = readTransaction.execute(status -> jobRepository.findById(jobId).orElse(null));
+        if (job == null) {
+            return;
+        }
+
+        CompletableFuture<Void> result;
+        try {
+            result = run(job);
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenCompleteAsync((done, e) -> {
+            if (e == null) {
+                markDone(List.of(jobId));
+                log.debug("Image finalization job done - id: {}, type: {}", jobId, job.getType());
+            } else {
+                markFailed(job, e);
+            }
+        }, this::execute);
+    }
+
+    /**
+     * 삭제 작업 묶음 처리 (점유한 작업만 DeleteObjects로 한 번에 삭제하고, key별 실패는 해당 작업만 재시도)
+     */
+    void processDeletes(List<Long> jobIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimedIds = writeTransaction.execute(status -> jobIds.stream()
+                .filter(id -> jobRepository.claim(id, CLAIMABLE, ImageJobStatus.PROCESSING, now,
+                        now.plusSeconds(leaseSeconds)) > 0)
+                .toList());
+        if (claimedIds == null || claimedIds.isEmpty()) {
+            return;
+        }
+        List<ImageFinalizationJob> jobs = readTransaction.execute(status -> jobRepository.findAllById(claimedIds));
+
+        s3Service.deleteImages(jobs.stream()
+                        .flatMap(job -> s3Service.withThumbnails(job.getSourceUrl()).stream())
+                        .toList())
+                .whenCompleteAsync((failedUrls, e) -> {
+                    if (e != null) {
+                        jobs.forEach(job -> markFailed(job, e));
+                        return;
+                    }
+                    List<Long> doneIds = new ArrayList<>();
+                    for (ImageFinalizationJob job : jobs) {
+                        if (failedUrls.contains(job.getSourceUrl())) {
+                            markFailed(job, new IllegalStateException("이미지 삭제에 실패했습니다: " + job.getSourceUrl()));
+                        } else {
+                            doneIds.add(job.getId());
+                        }
+                    }
+                    markDone(doneIds);
+                    log.debug("Image delete jobs done - deleted: {}, failed: {}", doneIds.size(), jobs.size() - doneIds.size());
+                }, this::execute);
+    }
+
+    private void markDone(List<Long> jobIds) {
+        LocalDateTime now = LocalDateTime.now();
+        writeTransaction.executeWithoutResult(status -> jobIds.forEach(jobId ->
+                jobRepository.updateStatus(jobId, ImageJobStatus.DONE, now, null)));
+    }
+
+    private void markFailed(ImageFinalizationJob job, Throwable failure) {
+        Throwable e = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        boolean giveUp = job.getAttempts() >= maxAttempts;
+        LocalDateTime nextAttemptAt = LocalDateTime.now()
+                .plusSeconds(BASE_BACKOFF_SECONDS << Math.min(job.getAttempts(), 10));
+        String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        writeTransaction.executeWithoutResult(status -> jobRepository.updateStatus(job.getId(),
+                giveUp ? ImageJobStatus.FAILED : ImageJobStatus.PENDING, nextAttemptAt,
+                error.length() > 1000 ? error.substring(0, 1000) : error));
+        if (giveUp) {
+            log.error("Image finalization job failed - id: {}, type: {}, attempts: {}",
+                    job.getId(), job.getType(), job.getAttempts(), e);
+        } else {
+            log.warn("Image finalization job will be retried - id: {}, type: {}, attempts: {}, error: {}",
+                    job.getId(), job.getType(), job.getAttempts(), error);
+        }
+    }
+
+    private CompletableFuture<Void> run(ImageFinalizationJob job) {
+        return switch (job.getType()) {
+            case DELETE -> s3Service.deleteImages(s3Service.withThumbnails(job.getSourceUrl()))
+                    .thenAccept(this::requireDeleted);
+            case THUMBNAILS -> derivativeService.generate(s3Service.extractKeyFromUrl(job.getSourceUrl()))
+                    .thenAcceptAsync(ready -> {
+                        if (ready && job.getOwnerId() != null && s3Service.isProductFolderImageUrl(job.getSourceUrl(), job.getOwnerId())) {
+                            markProductThumbnailReady(job.getOwnerId(), job.getSourceUrl());
+                        }
+                    }, this::execute);
+            case ARCHIVE_PROFILE -> {
+                // 이전 시도에서 이미 옮겼으면 원본이 없음
+                if (s3Service.doesFileExist(job.getSourceUrl())) {
+                    s3Service.moveProfileImageToTemp(job.getSourceUrl());
+                }
+                List<String> thumbnailUrls = s3Service.withThumbnails(job.getSourceUrl());
+                yield s3Service.deleteImages(thumbnailUrls.subList(1, thumbnailUrls.size()))
+                        .thenAccept(this::requireDeleted);
+            }
+            default -> finalizeImage(job);
+        };
+    }
+
+    private void requireDeleted(Set<String> failedUrls) {
+        if (!failedUrls.isEmpty()) {
+            throw new IllegalStateException("이미지 삭제에 실패했습니다: " + failedUrls);
+        }
+    }
+
+    private CompletableFuture<Void> finalizeImage(ImageFinalizationJob job) {
+        String sourceKey = s3Service.extractKeyFromUrl(job.getSourceUrl());
+        if (sourceKey == null) {
+            throw new IllegalArgumentException("유효하지 않은 이미지 URL입니다.");
+        }
+        // 작업 ID를 파일명 앞에 붙여 재시도해도 같은 key로 복사
+        String prefix = String.valueOf(job.getId());
+        String finalKey = switch (job.getType()) {
+            case USER_PROFILE -> s3Service.profileImageKey(job.getOwnerId(), prefix, sourceKey);
+            case SNAP_IMAGE -> s3Service.snapImageKey(job.getOwnerId(), prefix, sourceKey);
+            default -> s3Service.productImageKey(job.getOwnerId(), job.getType() == ImageJobType.PRODUCT_MAIN, prefix, sourceKey);
+        };
+        return s3Service.doesKeyExist(finalKey)
+                .thenCompose(finalExists -> finalExists
+                        ? CompletableFuture.completedFuture(s3Service.getUrl(finalKey))
+                        : s3Service.doesKeyExist(sourceKey).thenCompose(sourceExists -> sourceExists
+                                ? s3Service.copyToKey(job.getSourceUrl(), finalKey)
+                                : CompletableFuture.<String>completedFuture(null)))
+                .thenCompose(finalUrl -> {
+                    if (finalUrl == null) {
+                        // 원본이 이미 지워졌으면(교체 후 삭제 등) 더 할 일이 없음
+                        log.warn("Image finalization source is gone - id: {}, source: {}", job.getId(), job.getSourceUrl());
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    // URL과 썸네일 생성 여부를 함께 갱신하도록 먼저 생성 (실패하면 thumbnail_ready가 false로 남고 원본 사용)
+                    return derivativeService.generate(finalKey)
+                            .thenComposeAsync(thumbnailReady -> replaceSource(job, finalUrl, thumbnailReady), this::execute);
+                });
+    }
+
+    private CompletableFuture<Void> replaceSource(ImageFinalizationJob job, String finalUrl, boolean thumbnailReady) {
+        // 그 사이 다른 이미지로 바뀌었거나 삭제되어 교체하지 못했으면 복사본은 쓰이지 않으므로 같은 트랜잭션에서 삭제 작업 등록
+        // 원본은 다른 작업이 아직 참조할 수 있으므로 남겨 두고 임시 폴더 정리에 맡김
+        Long deleteJobId = writeTransaction.execute(status -> applyUrl(job, finalUrl, thumbnailReady) ? null
+                : jobRepository.save(new ImageFinalizationJob(ImageJobType.DELETE, null, null, finalUrl)).getId());
+        if (deleteJobId == null) {
+            // URL은 이미 바뀌었으므로 원본 삭제 실패로 작업을 재시도하지 않음 (남은 원본은 임시 폴더 정리에 맡김)
+            return s3Service.deleteImage(job.getSourceUrl()).exceptionally(e -> {
+                log.warn("Failed to delete finalized image source - id: {}, source: {}", job.getId(), job.getSourceUrl(), e);
+                return null;
+            });
+        }
+        log.debug("Image finalization superseded - id: {}, copy: {}", job.getId(), finalUrl);
+        dispatchDeletes(List.of(deleteJobId));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 아직 원본(임시) URL을 가리키고 있을 때만 최종 URL로 갱신
+     * 조건부 UPDATE 한 문장으로 URL 컬럼만 바꾸므로 작업 도중 저장된 다른 수정을 덮어쓰지 않고 수정 시각도 바뀌지 않음
+     * @return 갱신했으면 true (0건이면 다른 이미지로 교체된 것)
+     */
+    private boolean applyUrl(ImageFinalizationJob job, String finalUrl, boolean thumbnailReady) {
+        switch (job.getType()) {
+            case PRODUCT_MAIN -> {
+                if (productRepository.replaceMainImageUrl(job.getOwnerId(), job.getSourceUrl(), finalUrl, thumbnailReady) == 0) {
+                    return false;
+                }
+                publishProductUpdated(job.getOwnerId());
+                return true;
+            }
+            case PRODUCT_DETAIL -> {
+                if (productImageRepository.replaceImageUrl(job.getTargetId(), job.getSourceUrl(), finalUrl, thumbnailReady) == 0) {
+                    return false;
+                }
+                publishProductUpdated(productRepository.findIdByDetailImageId(job.getTargetId()));
+                return true;
+            }
+            case USER_PROFILE -> {
+                return userRepository.replaceProfileImageUrl(job.getOwnerId(), job.getSourceUrl(), finalUrl) > 0;
+            }
+            case SNAP_IMAGE -> {
+                return snapImageRepository.replaceImageUrl(job.getTargetId(), job.getSourceUrl(), finalUrl, thumbnailReady) > 0;
+            }
+            default -> throw new IllegalStateException("URL을 갱신하지 않는 작업입니다: " + job.getType());
+        }
+    }
+
+    // 업로드 세션으로 올린 상품 이미지 (아직 그 이미지를 쓰고 있는 대표/상세 이미지만 표시)
+    private void markProductThumbnailReady(Long productId, String imageUrl) {
+        writeTransaction.executeWithoutResult(status -> {
+            int marked = productRepository.markMainThumbnailReady(productId, imageUrl)
+                    + productImageRepository.markThumbnailReady(productId, imageUrl);
+            if (marked > 0) {
+                publishProductUpdated(productId);
+            }
+        });
+    }
+
+    // 갱신 이후 상태를 다시 읽어 이벤트로 전달 (읽기만 하므로 다른 컬럼을 다시 쓰지 않음)
+    private void publishProductUpdated(Long productId) {
+        productRepository.findById(productId).ifPresent(product ->
+                eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.ChangeType.UPDATED, product)));
+    }
+}
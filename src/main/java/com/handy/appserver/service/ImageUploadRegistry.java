@@ -0,0 +1,235 @@
+package com.handy.appserver.service;
+
+import com.handy.appserver.entity.image.ImageUpload;
+import com.handy.appserver.entity.image.ImageUploadStatus;
+import com.handy.appserver.entity.image.ImageUploadTarget;
+import com.handy.appserver.repository.ImageUploadRepository;
+import com.handy.appserver.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * presigned 업로드 발급/완료 기록
+ * - presigned URL을 발급할 때 key, 발급 대상 사용자, 만료 시각을 저장
+ * - 업로드 완료는 클라이언트 완료 알림이나 처음 사용할 때 HEAD 한 번으로 확인하고, 확인된 key는 다시 S3에 묻지 않음
+ * - 상품/프로필이 저장될 때 같은 트랜잭션에서 ATTACHED로 표시
+ * - 최종 key에 바로 올리는 업로드는 만료 후 retention-hours가 지나도록 ISSUED 그대로(확인/참조된 적 없음)인 파일만 삭제
+ *   최종 key는 상품/프로필 원본이 될 수 있으므로 한 번이라도 확인된 key는 지우지 않음 (임시 폴더는 TempUploadSweeper가 정리)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ImageUploadRegistry {
+
+    private static final int CLEANUP_BATCH_SIZE = 500;
+
+    private final ImageUploadRepository uploadRepository;
+    private final ObjectStorage storage;
+    private final TransactionTemplate writeTransaction;
+    private final Executor confirmExecutor;
+    private final long retentionHours;
+
+    public ImageUploadRegistry(ImageUploadRepository uploadRepository,
+                               ObjectStorage storage,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("uploadConfirmExecutor") Executor confirmExecutor,
+                               @Value("${storage.upload-registry.retention-hours:48}") long retentionHours) {
+        this.uploadRepository = uploadRepository;
+        this.storage = storage;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.confirmExecutor = confirmExecutor;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * @param ownerId 최종 key 경로의 상품 ID 또는 사용자 ID (TEMP는 null)
+     */
+    @Transactional
+    public void register(Long userId, String key, ImageUploadTarget target, Long ownerId, Duration expiration) {
+        registerAll(userId, List.of(key), target, ownerId, expiration);
+    }
+
+    /**
+     * 여러 key를 한 트랜잭션에서 기록 (Snowflake ID라 INSERT가 JDBC 배치로 묶임)
+     */
+    @Transactional
+    public void registerAll(Long userId, List<String> keys, ImageUploadTarget target, Long ownerId, Duration expiration) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(expiration);
+        uploadRepository.saveAll(keys.stream()
+                .map(key -> new ImageUpload(key, userId, target, ownerId, expiresAt))
+                .toList());
+    }
+
+    /**
+     * 업로드 세션에서 이 사용자에게 발급한 상품 ID인지 확인
+     */
+    public boolean isProductReservedBy(Long userId, Long productId) {
+        return uploadRepository.existsByTargetAndOwnerIdAndUserId(ImageUploadTarget.PRODUCT, productId, userId);
+    }
+
+    /**
+     * 업로드 완료 확인 (HEAD 한 번, 이미 확인된 업로드면 S3 호출 없음)
+     * DB 트랜잭션 밖에서 호출해야 S3 응답을 기다리는 동안 커넥션을 잡지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void requireUploaded(Long userId, String imageUrl) {
+        ObjectStorage.await(confirmUpload(userId, imageUrl));
+    }
+
+    /**
+     * requireUploaded의 비동기 버전 (HEAD 응답을 기다리는 동안 호출 스레드를 잡지 않고, 확인 기록은 uploadConfirmExecutor에서 UPDATE 한 번으로 저장)
+     * @return 업로드되지 않았거나 발급받지 않은 이미지면 IllegalArgumentException으로 실패하는 future
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Void> confirmUpload(Long userId, String imageUrl) {
+        ImageUpload upload;
+        try {
+            upload = findIssued(userId, imageUrl);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (upload.isConfirmed()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return storage.exists(upload.getObjectKey()).thenCompose(exists -> {
+            if (!exists) {
+                throw new IllegalArgumentException("S3에 해당 파일이 존재하지 않습니다. 파일 업로드를 다시 시도해주세요.");
+            }
+            return recordConfirmed(userId, upload.getObjectKey());
+        });
+    }
+
+    // 확인 기록은 다음 사용 때 HEAD를 생략하기 위한 것이므로, 큐가 가득 차 넘기지 못하면 기록 없이 완료 (다음 사용 시 다시 HEAD)
+    private CompletableFuture<Void> recordConfirmed(Long userId, String key) {
+        try {
+            return CompletableFuture.runAsync(() -> {
+                writeTransaction.executeWithoutResult(status -> uploadRepository.confirm(key,
+                        ImageUploadStatus.ISSUED, ImageUploadStatus.CONFIRMED, LocalDateTime.now()));
+                log.debug("Image upload confirmed - userId: {}, key: {}", userId, key);
+            }, confirmExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Upload confirm queue is full, skipping confirmation record - key: {}", key);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 모두 이 사용자에게 발급한 업로드 key인지 확인하고 참조 저장으로 표시 (호출한 트랜잭션에서 DB만 사용, S3 호출 없음)
+     * 실제 업로드 여부는 이미지 확정 작업이 원본을 복사하거나 썸네일을 만들 때 확인
+     */
+    @Transactional
+    public void attach(Long userId, Collection<String> imageUrls) {
+        Set<String> keys = imageUrls.stream()
+                .filter(Objects::nonNull)
+                .map(this::keyOf)
+                .collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return;
+        }
+        Map<String, ImageUpload> uploads = uploadRepository.findByObjectKeyIn(keys).stream()
+                .collect(Collectors.toMap(ImageUpload::getObjectKey, Function.identity()));
+        for (String key : keys) {
+            ImageUpload upload = uploads.get(key);
+            if (upload == null || !upload.getUserId().equals(userId)) {
+                throw new IllegalArgumentException("업로드 URL을 발급받지 않은 이미지입니다: " + storage.urlOf(key));
+            }
+        }
+        // 조회 이후 정리 작업이 지운 기록이 있으면 파일도 지워졌을 수 있으므로 저장하지 않음
+        if (uploadRepository.attach(keys, ImageUploadStatus.ATTACHED) < keys.size()) {
+            throw new IllegalArgumentException("만료된 업로드입니다. 이미지를 다시 업로드해주세요.");
+        }
+    }
+
+    /**
+     * 이 사용자에게 발급한 업로드 기록을 쿼리 한 번으로 조회 (상품 일괄 등록 검증용)
+     * @return 이미지 URL → 업로드 기록 (발급받지 않았거나 다른 사용자가 발급받은 이미지는 빠짐)
+     */
+    public Map<String, ImageUpload> findIssuedAll(Long userId, Collection<String> imageUrls) {
+        Map<String, String> urlsByKey = new HashMap<>();
+        for (String imageUrl : imageUrls) {
+            String key = imageUrl == null ? null : storage.keyOf(imageUrl);
+            if (key != null) {
+                urlsByKey.put(key, imageUrl);
+            }
+        }
+        if (urlsByKey.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, ImageUpload> uploads = new HashMap<>();
+        for (ImageUpload upload : uploadRepository.findByObjectKeyIn(urlsByKey.keySet())) {
+            if (upload.getUserId().equals(userId)) {
+                uploads.put(urlsByKey.get(upload.getObjectKey()), upload);
+            }
+        }
+        return uploads;
+    }
+
+    private ImageUpload findIssued(Long userId, String imageUrl) {
+        return uploadRepository.findByObjectKey(keyOf(imageUrl))
+                .filter(upload -> upload.getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("업로드 URL을 발급받지 않은 이미지입니다: " + imageUrl));
+    }
+
+    private String keyOf(String imageUrl) {
+        String key = storage.keyOf(imageUrl);
+        if (key == null) {
+            throw new IllegalArgumentException("유효하지 않은 이미지 URL입니다: " + imageUrl);
+        }
+        return key;
+    }
+
+    @Scheduled(fixedDelayString = "${storage.upload-registry.cleanup-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void cleanupExpired() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        int abandoned = 0;
+        while (true) {
+            List<ImageUpload> batch = uploadRepository.findAbandonedBefore(before, ImageUploadTarget.TEMP,
+                    ImageUploadStatus.ISSUED, PageRequest.of(0, CLEANUP_BATCH_SIZE));
+            // 기록을 먼저 지워야 그 사이 상품/프로필 저장이 이 key를 참조하지 못함 (attach 갱신 수가 모자라 실패)
+            List<String> abandonedKeys = new ArrayList<>();
+            writeTransaction.executeWithoutResult(status -> batch.forEach(upload -> {
+                if (uploadRepository.deleteIfIssued(upload.getId(), ImageUploadStatus.ISSUED) > 0) {
+                    abandonedKeys.add(upload.getObjectKey());
+                }
+            }));
+            List<String> failedKeys = ObjectStorage.await(storage.deleteAll(abandonedKeys));
+            if (!failedKeys.isEmpty()) {
+                log.warn("Failed to delete abandoned uploads: {}", failedKeys);
+            }
+            abandoned += abandonedKeys.size();
+            if (batch.size() < CLEANUP_BATCH_SIZE) {
+                break;
+            }
+        }
+
+        Integer deleted = writeTransaction.execute(status -> uploadRepository.deleteSettledBefore(
+                before, ImageUploadTarget.TEMP, ImageUploadStatus.ISSUED));
+        if (abandoned > 0 || (deleted != null && deleted > 0)) {
+            log.info("Expired image upload records deleted: {}, abandoned direct uploads deleted: {}", deleted, abandoned);
+        }
+    }
+}
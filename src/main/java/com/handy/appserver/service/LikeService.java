@@ -12,6 +12,7 @@ import com.handy.appserver.repository.CommentRepository;
 import com.handy.appserver.repository.LikeRepository;
 import com.handy.appserver.repository.SnapPostRepository;
 import com.handy.appserver.repository.UserRepository;
+import com.handy.appserver.storage.Thumbnails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -267,6 +268,9 @@ public class LikeService {
             snapPost.getUser().getName(),
             profileImage,
             imageUrls,
+            snapPost.getImages().stream()
+                    .map(image -> Thumbnails.urlFor(image.getImageUrl(), image.isThumbnailReady(), Thumbnails.LIST_WIDTH))
+                    .collect(Collectors.toList()),
             snapPost.getCreatedAt(),
             snapPost.getUpdatedAt(),
             likeCount,
@@ -0,0 +1,206 @@
+package com.handy.appserver.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handy.appserver.dto.DetailImageRequest;
+import com.handy.appserver.dto.ProductCreateRequest;
+import com.handy.appserver.entity.product.ProductShape;
+import com.handy.appserver.entity.product.ProductSize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 상품 일괄 등록 입력을 한 행씩 읽는 리더 (전체를 메모리에 올리지 않음)
+ * - NDJSON: 한 줄에 ProductCreateRequest 형식의 JSON 하나, 빈 줄은 무시
+ * - CSV: 첫 줄은 헤더(ProductCreateRequest 필드명), categoryIds/detailImageUrls는 '|'로 구분
+ *   따옴표로 감싼 값 안의 쉼표/줄바꿈과 "" 이스케이프 지원
+ */
+final class ProductImportReader {
+
+    private static final String MULTI_VALUE_SEPARATOR = "\\|";
+
+    private final BufferedReader reader;
+    private final ProductImportService.Format format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> header;
+    private long rowNumber = 0;
+
+    ProductImportReader(InputStream inputStream, ProductImportService.Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return 다음 행 (입력 끝이면 null), 형식 오류가 있는 행은 error에 사유를 담아 반환
+     */
+    Row next() throws IOException {
+        return format == ProductImportService.Format.CSV ? nextCsv() : nextJson();
+    }
+
+    private Row nextJson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        rowNumber++;
+        try {
+            return new Row(rowNumber, objectMapper.readValue(line, ProductCreateRequest.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(rowNumber, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    private Row nextCsv() throws IOException {
+        if (header == null) {
+            List<String> columns = readRecord();
+            if (columns == null) {
+                return null;
+            }
+            header = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                // 엑셀에서 저장한 CSV의 BOM 제거
+                String column = columns.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                header.put(column, i);
+            }
+            if (!header.containsKey("name")) {
+                throw new IllegalArgumentException("CSV 헤더에 name 컬럼이 없습니다.");
+            }
+        }
+
+        List<String> values;
+        do {
+            values = readRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank());
+        rowNumber++;
+        try {
+            return new Row(rowNumber, toRequest(values), null);
+        } catch (IllegalArgumentException e) {
+            return new Row(rowNumber, null, e.getMessage());
+        }
+    }
+
+    private ProductCreateRequest toRequest(List<String> values) {
+        ProductCreateRequest request = new ProductCreateRequest();
+        request.setName(value(values, "name"));
+        request.setDescription(value(values, "description"));
+        request.setShape(parse(values, "shape", ProductShape::valueOf));
+        request.setShapeChangeable(Boolean.parseBoolean(value(values, "shapechangeable")));
+        request.setSize(parse(values, "size", ProductSize::valueOf));
+        request.setSizeChangeable(Boolean.parseBoolean(value(values, "sizechangeable")));
+        request.setPrice(parse(values, "price", BigDecimal::new));
+        request.setProductionDays(parse(values, "productiondays", Integer::valueOf));
+        request.setCustomAvailable(Boolean.parseBoolean(value(values, "customavailable")));
+        request.setMainImageUrl(value(values, "mainimageurl"));
+
+        List<Long> categoryIds = new ArrayList<>();
+        for (String categoryId : multiValue(values, "categoryids")) {
+            categoryIds.add(parseValue("categoryIds", categoryId, Long::valueOf));
+        }
+        request.setCategoryIds(categoryIds);
+
+        List<DetailImageRequest> detailImages = new ArrayList<>();
+        for (String imageUrl : multiValue(values, "detailimageurls")) {
+            DetailImageRequest detailImage = new DetailImageRequest();
+            detailImage.setImageUrl(imageUrl);
+            detailImages.add(detailImage);
+        }
+        request.setDetailImages(detailImages);
+        return request;
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> multiValue(List<String> values, String column) {
+        String value = value(values, column);
+        if (value == null) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>();
+        for (String item : value.split(MULTI_VALUE_SEPARATOR)) {
+            if (!item.isBlank()) {
+                result.add(item.trim());
+            }
+        }
+        return result;
+    }
+
+    private <T> T parse(List<String> values, String column, Function<String, T> parser) {
+        String value = value(values, column);
+        return value == null ? null : parseValue(column, value, parser);
+    }
+
+    private static <T> T parseValue(String column, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    // 따옴표 안의 줄바꿈을 포함해 CSV 레코드 하나를 읽음 (입력 끝이면 null)
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            current.append('\n');
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    record Row(long number, ProductCreateRequest request, String error) {
+    }
+}
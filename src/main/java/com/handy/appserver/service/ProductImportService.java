@@ -0,0 +1,432 @@
+package com.handy.appserver.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handy.appserver.dto.DetailImageRequest;
+import com.handy.appserver.dto.ProductCreateRequest;
+import com.handy.appserver.dto.ProductImportResult;
+import com.handy.appserver.dto.ProductImportSummary;
+import com.handy.appserver.entity.common.SnowflakeIdGenerator;
+import com.handy.appserver.entity.image.ImageUpload;
+import com.handy.appserver.entity.image.ImageUploadTarget;
+import com.handy.appserver.entity.product.RecommendScore;
+import com.handy.appserver.entity.user.User;
+import com.handy.appserver.entity.user.UserRole;
+import com.handy.appserver.event.ProductChangedEvent;
+import com.handy.appserver.repository.CategoryRepository;
+import com.handy.appserver.repository.ProductRepository;
+import com.handy.appserver.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 상품 일괄 등록 (다른 쇼핑몰에서 옮겨 오는 판매자용)
+ * - 입력을 한 행씩 읽어 batch-size 단위로 처리하므로 전체 입력을 메모리에 올리지 않음
+ * - 배치마다 카테고리 존재 여부를 쿼리 한 번으로 확인하고, 상품/상세 이미지/카테고리 연결을 JDBC 배치 INSERT로 저장
+ * - 배치 하나가 트랜잭션 하나이며, 검증에 실패한 행만 제외하고 나머지 행은 저장
+ *   DB가 거부하는 값(컬럼 길이 등)은 미리 검증하고, 그래도 배치 저장이 실패하면 행마다 다시 저장해 실패한 행만 보고
+ * - 이미지는 단건 등록과 같은 기준으로 업로드 기록을 확인 (배치마다 쿼리 한 번)
+ *   이 판매자가 한 상품의 업로드 세션으로 products/{상품 ID}/ 에 바로 올린 이미지만 허용하고, 그 상품 ID로 저장
+ *   임시 폴더 이미지는 확정 작업이 필요하므로 단건 등록 API 사용
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    public enum Format {
+        NDJSON,
+        CSV;
+
+        public static Format fromContentType(String contentType) {
+            if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv")) {
+                return CSV;
+            }
+            return NDJSON;
+        }
+    }
+
+    private static final int MAX_DETAIL_IMAGES = 5;
+    private static final int MAX_VARCHAR_LENGTH = 255;  // 길이를 지정하지 않은 String 컬럼(VARCHAR(255))
+
+    private static final String INSERT_PRODUCT = "INSERT INTO products (id, name, description, main_image_url, " +
+            "main_thumbnail_ready, shape, shape_changeable, size, size_changeable, price, production_days, custom_available, " +
+            "seller_id, is_active, recommend_score, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, false, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?, ?)";
+    private static final String INSERT_IMAGE = "INSERT INTO product_images (id, product_id, image_url, thumbnail_ready, " +
+            "description, image_order, created_at, updated_at) VALUES (?, ?, ?, false, ?, ?, ?, ?)";
+    private static final String INSERT_CATEGORY = "INSERT INTO product_categories (product_id, category_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final S3Service s3Service;
+    private final ImageUploadRegistry uploadRegistry;
+    private final ImageFinalizationService imageFinalizationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public ProductImportService(JdbcTemplate jdbcTemplate,
+                                SnowflakeIdGenerator idGenerator,
+                                PlatformTransactionManager transactionManager,
+                                UserRepository userRepository,
+                                CategoryRepository categoryRepository,
+                                ProductRepository productRepository,
+                                S3Service s3Service,
+                                ImageUploadRegistry uploadRegistry,
+                                ImageFinalizationService imageFinalizationService,
+                                ApplicationEventPublisher eventPublisher,
+                                ObjectMapper objectMapper,
+                                @Value("${product-import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = idGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+        this.s3Service = s3Service;
+        this.uploadRegistry = uploadRegistry;
+        this.imageFinalizationService = imageFinalizationService;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 일괄 등록 가능한 판매자인지 확인 (입력을 읽기 전에 호출)
+     */
+    public void validateSeller(Long sellerId) {
+        User seller = userRepository.findById(sellerId)
+                .orElseThrow(() -> new IllegalArgumentException("판매자를 찾을 수 없습니다."));
+        if (!seller.getRole().equals(UserRole.SELLER)) {
+            throw new IllegalArgumentException("판매자만 상품을 등록할 수 있습니다.");
+        }
+    }
+
+    /**
+     * @param resultSink 배치가 끝날 때마다 해당 배치의 행별 결과를 전달받음 (입력 순서)
+     */
+    public ProductImportSummary importProducts(Long sellerId, InputStream input, Format format,
+                                               Consumer<List<ProductImportResult>> resultSink) throws IOException {
+        validateSeller(sellerId);
+        long started = System.currentTimeMillis();
+        ProductImportReader reader = new ProductImportReader(input, format, objectMapper);
+
+        long total = 0;
+        long succeeded = 0;
+        List<ProductImportReader.Row> batch = new ArrayList<>(batchSize);
+        ProductImportReader.Row row;
+        do {
+            row = reader.next();
+            if (row != null) {
+                batch.add(row);
+            }
+            if (batch.size() >= batchSize || (row == null && !batch.isEmpty())) {
+                List<ProductImportResult> results = processBatch(sellerId, batch);
+                total += results.size();
+                succeeded += results.stream().filter(ProductImportResult::isSuccess).count();
+                resultSink.accept(results);
+                batch.clear();
+            }
+        } while (row != null);
+
+        long took = System.currentTimeMillis() - started;
+        log.info("Product import finished - seller: {}, rows: {}, succeeded: {}, took {}ms",
+                sellerId, total, succeeded, took);
+        return new ProductImportSummary(total, succeeded, total - succeeded, took);
+    }
+
+    private List<ProductImportResult> processBatch(Long sellerId, List<ProductImportReader.Row> rows) {
+        ProductImportResult[] results = new ProductImportResult[rows.size()];
+
+        // 배치 전체의 카테고리를 한 번에 확인
+        Set<Long> requestedCategoryIds = new HashSet<>();
+        for (ProductImportReader.Row row : rows) {
+            if (row.request() != null && row.request().getCategoryIds() != null) {
+                requestedCategoryIds.addAll(row.request().getCategoryIds());
+            }
+        }
+        requestedCategoryIds.remove(null);
+        Set<Long> existingCategoryIds = requestedCategoryIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(categoryRepository.findExistingIds(requestedCategoryIds));
+
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ProductImportReader.Row row = rows.get(i);
+            String error = row.error() != null ? row.error() : validate(row.request(), existingCategoryIds);
+            if (error != null) {
+                results[i] = ProductImportResult.failure(row.number(), error);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 배치 전체 이미지의 업로드 기록과 이미 저장된 상품 ID를 한 번에 조회
+        Set<String> imageUrls = new HashSet<>();
+        candidates.forEach(i -> imageUrls.addAll(imageUrls(rows.get(i).request())));
+        Map<String, ImageUpload> uploads = imageUrls.isEmpty()
+                ? Map.of()
+                : uploadRegistry.findIssuedAll(sellerId, imageUrls);
+        Map<Integer, Long> reservedProductIds = new HashMap<>();
+        for (int i : candidates) {
+            Long productId = reservedProductId(rows.get(i).request(), uploads);
+            if (productId != null) {
+                reservedProductIds.put(i, productId);
+            }
+        }
+        Set<Long> usedProductIds = reservedProductIds.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(productRepository.findExistingIds(reservedProductIds.values()));
+
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Long> productIds = new ArrayList<>();
+        for (int i : candidates) {
+            Long productId = reservedProductIds.get(i);
+            String error = validateImages(rows.get(i).request(), productId, uploads);
+            // 같은 배치에서 같은 상품 ID를 쓰는 행도 처음 행만 저장
+            if (error == null && !usedProductIds.add(productId)) {
+                error = "이미 등록된 상품 ID입니다: " + productId;
+            }
+            if (error != null) {
+                results[i] = ProductImportResult.failure(rows.get(i).number(), error);
+            } else {
+                validIndexes.add(i);
+                productIds.add(productId);
+            }
+        }
+
+        if (!validIndexes.isEmpty()) {
+            List<ProductCreateRequest> requests = validIndexes.stream().map(i -> rows.get(i).request()).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(sellerId, requests, productIds));
+                for (int i = 0; i < validIndexes.size(); i++) {
+                    int index = validIndexes.get(i);
+                    results[index] = ProductImportResult.success(rows.get(index).number(), productIds.get(i));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Product import batch failed, retrying row by row - seller: {}, rows: {}, error: {}",
+                        sellerId, validIndexes.size(), e.getMessage());
+                for (int i = 0; i < validIndexes.size(); i++) {
+                    int index = validIndexes.get(i);
+                    results[index] = insertOne(sellerId, rows.get(index), productIds.get(i));
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    // 배치 저장이 실패했을 때 행 하나씩 저장 (실패한 행만 제외)
+    private ProductImportResult insertOne(Long sellerId, ProductImportReader.Row row, Long productId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(sellerId, List.of(row.request()), List.of(productId)));
+            return ProductImportResult.success(row.number(), productId);
+        } catch (IllegalArgumentException e) {
+            // 조회 이후 정리 작업이 업로드 기록을 지운 경우 (attach)
+            return ProductImportResult.failure(row.number(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Product import row failed - seller: {}, row: {}", sellerId, row.number(), e);
+            return ProductImportResult.failure(row.number(), "상품 저장 중 오류가 발생했습니다.");
+        }
+    }
+
+    private String validate(ProductCreateRequest request, Set<Long> existingCategoryIds) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            return "상품명은 필수입니다.";
+        }
+        if (request.getName().length() > MAX_VARCHAR_LENGTH) {
+            return "상품명은 " + MAX_VARCHAR_LENGTH + "자까지 입력할 수 있습니다.";
+        }
+        if (request.getShape() == null || request.getSize() == null) {
+            return "모양과 크기는 필수입니다.";
+        }
+        if (request.getPrice() == null || request.getPrice().compareTo(BigDecimal.ZERO) < 0) {
+            return "가격이 올바르지 않습니다.";
+        }
+        if (request.getProductionDays() == null || request.getProductionDays() < 0) {
+            return "제작 기간이 올바르지 않습니다.";
+        }
+        if (request.getMainImageUrl() == null || request.getMainImageUrl().isBlank()) {
+            return "대표 이미지는 필수입니다.";
+        }
+        List<DetailImageRequest> detailImages = detailImages(request);
+        if (detailImages.size() > MAX_DETAIL_IMAGES) {
+            return "상세 이미지는 최대 5장까지만 추가할 수 있습니다.";
+        }
+        if (s3Service.isTempImageUrl(request.getMainImageUrl())
+                || detailImages.stream().anyMatch(image -> s3Service.isTempImageUrl(image.getImageUrl()))) {
+            return "임시 폴더 이미지는 일괄 등록할 수 없습니다.";
+        }
+        if (detailImages.stream().anyMatch(image -> image.getImageUrl() == null || image.getImageUrl().isBlank())) {
+            return "상세 이미지 URL이 비어 있습니다.";
+        }
+        if (request.getMainImageUrl().length() > MAX_VARCHAR_LENGTH
+                || detailImages.stream().anyMatch(image -> image.getImageUrl().length() > MAX_VARCHAR_LENGTH)) {
+            return "이미지 URL은 " + MAX_VARCHAR_LENGTH + "자까지 입력할 수 있습니다.";
+        }
+        if (detailImages.stream().anyMatch(image -> image.getDescription() != null
+                && image.getDescription().length() > MAX_VARCHAR_LENGTH)) {
+            return "상세 이미지 설명은 " + MAX_VARCHAR_LENGTH + "자까지 입력할 수 있습니다.";
+        }
+        List<Long> categoryIds = categoryIds(request);
+        if (!existingCategoryIds.containsAll(categoryIds)) {
+            return "존재하지 않는 카테고리가 포함되어 있습니다.";
+        }
+        return null;
+    }
+
+    /**
+     * 단건 등록과 같은 기준으로 이미지 확인 (requireProductImageUrl + 업로드 기록)
+     * 모든 이미지가 이 판매자에게 발급한 업로드 기록에 있고, 같은 상품 ID의 업로드 세션으로 그 상품 폴더에 올린 이미지여야 함
+     */
+    private String validateImages(ProductCreateRequest request, Long productId, Map<String, ImageUpload> uploads) {
+        for (String imageUrl : imageUrls(request)) {
+            ImageUpload upload = uploads.get(imageUrl);
+            if (upload == null) {
+                return "업로드 URL을 발급받지 않은 이미지입니다: " + imageUrl;
+            }
+            if (upload.getTarget() != ImageUploadTarget.PRODUCT || !Objects.equals(upload.getOwnerId(), productId)) {
+                return "한 상품의 업로드 세션으로 올린 이미지만 등록할 수 있습니다: " + imageUrl;
+            }
+            try {
+                imageFinalizationService.requireProductImageUrl(imageUrl, productId);
+            } catch (IllegalArgumentException e) {
+                return e.getMessage();
+            }
+        }
+        return null;
+    }
+
+    // 행에 상품 ID가 없으면 대표 이미지를 올린 업로드 세션의 상품 ID
+    private static Long reservedProductId(ProductCreateRequest request, Map<String, ImageUpload> uploads) {
+        if (request.getProductId() != null) {
+            return request.getProductId();
+        }
+        ImageUpload upload = uploads.get(request.getMainImageUrl());
+        return upload == null ? null : upload.getOwnerId();
+    }
+
+    /**
+     * 상품 → 상세 이미지 → 카테고리 연결 순으로 배치 INSERT (상품 ID는 업로드 세션에서 발급한 ID, 상세 이미지 ID는 INSERT 전에 발급)
+     * 같은 트랜잭션에서 업로드 기록을 ATTACHED로 표시하고 썸네일 생성 작업 등록
+     */
+    private void insert(Long sellerId, List<ProductCreateRequest> requests, List<Long> productIds) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        double recommendScore = RecommendScore.of(0, 0, now);
+
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProductCreateRequest request = requests.get(i);
+                ps.setLong(1, productIds.get(i));
+                ps.setString(2, request.getName());
+                ps.setString(3, request.getDescription());
+                ps.setString(4, request.getMainImageUrl());
+                ps.setString(5, request.getShape().name());
+                ps.setBoolean(6, request.isShapeChangeable());
+                ps.setString(7, request.getSize().name());
+                ps.setBoolean(8, request.isSizeChangeable());
+                ps.setBigDecimal(9, request.getPrice());
+                ps.setInt(10, request.getProductionDays());
+                ps.setBoolean(11, request.isCustomAvailable());
+                ps.setLong(12, sellerId);
+                ps.setDouble(13, recommendScore);
+                ps.setTimestamp(14, timestamp);
+                ps.setTimestamp(15, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return requests.size();
+            }
+        });
+
+        List<Object[]> imageArgs = new ArrayList<>();
+        List<Object[]> categoryArgs = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ProductCreateRequest request = requests.get(i);
+            Long productId = productIds.get(i);
+            List<DetailImageRequest> detailImages = detailImages(request);
+            for (int order = 0; order < detailImages.size(); order++) {
+                DetailImageRequest image = detailImages.get(order);
+                imageArgs.add(new Object[]{idGenerator.nextId(), productId, image.getImageUrl(), image.getDescription(), order, timestamp, timestamp});
+            }
+            for (Long categoryId : categoryIds(request)) {
+                categoryArgs.add(new Object[]{productId, categoryId});
+            }
+        }
+        if (!imageArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IMAGE, imageArgs);
+        }
+        if (!categoryArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CATEGORY, categoryArgs);
+        }
+
+        List<String> imageUrls = new ArrayList<>();
+        requests.forEach(request -> imageUrls.addAll(imageUrls(request)));
+        uploadRegistry.attach(sellerId, imageUrls);
+        for (int i = 0; i < requests.size(); i++) {
+            imageFinalizationService.enqueueThumbnails(productIds.get(i), imageUrls(requests.get(i)));
+        }
+
+        // 커밋 이후 인메모리 인덱스/캐시에 반영
+        for (int i = 0; i < requests.size(); i++) {
+            ProductCreateRequest request = requests.get(i);
+            eventPublisher.publishEvent(new ProductChangedEvent(
+                    ProductChangedEvent.ChangeType.CREATED,
+                    productIds.get(i),
+                    request.getName(),
+                    request.getDescription(),
+                    request.getMainImageUrl(),
+                    request.getPrice(),
+                    request.getShape(),
+                    request.getSize(),
+                    request.getProductionDays(),
+                    request.isCustomAvailable(),
+                    true,
+                    sellerId,
+                    categoryIds(request),
+                    now,
+                    now,
+                    recommendScore));
+        }
+    }
+
+    private static List<DetailImageRequest> detailImages(ProductCreateRequest request) {
+        return request.getDetailImages() == null ? List.of() : request.getDetailImages();
+    }
+
+    private static List<String> imageUrls(ProductCreateRequest request) {
+        List<String> imageUrls = new ArrayList<>();
+        imageUrls.add(request.getMainImageUrl());
+        detailImages(request).forEach(image -> imageUrls.add(image.getImageUrl()));
+        return imageUrls;
+    }
+
+    // 중복 제외 (product_categories 중복 행 방지)
+    private static List<Long> categoryIds(ProductCreateRequest request) {
+        if (request.getCategoryIds() == null) {
+            return List.of();
+        }
+        return request.getCategoryIds().stream().filter(Objects::nonNull).distinct().toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.handy.appserver.service;
+
+import com.handy.appserver.cache.HomeFeedStore;
+import com.handy.appserver.entity.order.OrderStatus;
+import com.handy.appserver.entity.product.RecommendScore;
+import com.handy.appserver.repository.CartItemRepository;
+import com.handy.appserver.repository.OrderItemRepository;
+import com.handy.appserver.repository.ProductRepository;
+import com.handy.appserver.search.ProductAutocomplete;
+import com.handy.appserver.search.ProductCatalog;
+import com.handy.appserver.search.ProductFuzzySearch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천순 점수 갱신
+ * 주문 수량/장바구니 건수를 상품별로 집계해 products.recommend_score에 반영하고,
+ * 추천순 목록은 요청 시 계산 없이 (is_active, recommend_score, id) 인덱스 순서로 조회
+ * 점수가 바뀐 상품만 JDBC 배치 UPDATE하므로 주문/장바구니 변화가 없으면 쓰기가 발생하지 않음
+ * 인메모리 인덱스는 DB 값이 아니라 서버마다 직접 계산한 점수로 갱신
+ * (먼저 실행한 서버가 DB를 바꿔 두면 다른 서버에서는 DB 기준 변경이 없어 보이므로, 마지막으로 반영한 점수와 비교)
+ */
+@Slf4j
+@Service
+public class ProductRankingService {
+
+    private static final int UPDATE_CHUNK_SIZE = 500;
+    private static final String UPDATE_SCORE = "UPDATE products SET recommend_score = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final CartItemRepository cartItemRepository;
+    private final HomeFeedStore homeFeedStore;
+    private final ProductCatalog productCatalog;
+    private final ProductAutocomplete productAutocomplete;
+    private final ProductFuzzySearch productFuzzySearch;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    // 이 서버의 인메모리 인덱스에 마지막으로 반영한 점수
+    private final Map<Long, Double> appliedScores = new HashMap<>();
+
+    public ProductRankingService(JdbcTemplate jdbcTemplate,
+                                 ProductRepository productRepository,
+                                 OrderItemRepository orderItemRepository,
+                                 CartItemRepository cartItemRepository,
+                                 HomeFeedStore homeFeedStore,
+                                 ProductCatalog productCatalog,
+                                 ProductAutocomplete productAutocomplete,
+                                 ProductFuzzySearch productFuzzySearch,
+                                 PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.homeFeedStore = homeFeedStore;
+        this.productCatalog = productCatalog;
+        this.productAutocomplete = productAutocomplete;
+        this.productFuzzySearch = productFuzzySearch;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Async("indexTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${ranking.recommend.refresh-interval-ms:600000}",
+               fixedDelayString = "${ranking.recommend.refresh-interval-ms:600000}")
+    public synchronized void refresh() {
+        long started = System.currentTimeMillis();
+        try {
+            Scores scores = readTransaction.execute(status -> computeScores());
+            List<Object[]> updates = new ArrayList<>();
+            scores.stale().forEach((productId, score) -> updates.add(new Object[]{score, productId}));
+            for (int from = 0; from < updates.size(); from += UPDATE_CHUNK_SIZE) {
+                List<Object[]> chunk = updates.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, updates.size()));
+                writeTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SCORE, chunk));
+            }
+
+            Map<Long, Double> changed = new HashMap<>();
+            scores.computed().forEach((productId, score) -> {
+                Double applied = appliedScores.get(productId);
+                if (applied == null || applied != score.doubleValue()) {
+                    changed.put(productId, score);
+                }
+            });
+            if (!changed.isEmpty()) {
+                productCatalog.updateScores(changed);
+                productAutocomplete.updateScores(changed);
+                productFuzzySearch.updateScores(changed);
+                homeFeedStore.rebuild();
+            }
+            appliedScores.keySet().retainAll(scores.computed().keySet());
+            appliedScores.putAll(changed);
+            log.info("Recommend scores refreshed - updated: {}, applied: {}, took {}ms",
+                    updates.size(), changed.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Recommend score refresh failed", e);
+        }
+    }
+
+    private Scores computeScores() {
+        Map<Long, Long> orderQuantities = toCountMap(
+                orderItemRepository.sumQuantityGroupByProductId(OrderStatus.CANCELLED));
+        Map<Long, Long> cartAdds = toCountMap(cartItemRepository.countGroupByProductId());
+
+        Map<Long, Double> computed = new HashMap<>();
+        Map<Long, Double> stale = new LinkedHashMap<>();
+        for (Object[] row : productRepository.findActiveRecommendInputs()) {
+            Long productId = (Long) row[0];
+            LocalDateTime createdAt = (LocalDateTime) row[1];
+            double current = ((Number) row[2]).doubleValue();
+            if (createdAt == null) {
+                continue;
+            }
+            double score = RecommendScore.of(orderQuantities.getOrDefault(productId, 0L),
+                    cartAdds.getOrDefault(productId, 0L), createdAt);
+            computed.put(productId, score);
+            if (score != current) {
+                stale.put(productId, score);
+            }
+        }
+        return new Scores(computed, stale);
+    }
+
+    private static Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[0] != null && row[1] != null) {
+                counts.put((Long) row[0], ((Number) row[1]).longValue());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @param computed 활성 상품 전체의 계산된 점수
+     * @param stale DB 값과 다른 점수
+     */
+    private record Scores(Map<Long, Double> computed, Map<Long, Double> stale) {
+    }
+}
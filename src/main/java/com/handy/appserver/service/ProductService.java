@@ -1,26 +1,54 @@
 package com.handy.appserver.service;
 
+import com.handy.appserver.cache.CountCache;
+import com.handy.appserver.cache.HomeFeedStore;
+import com.handy.appserver.cache.ProductDetailCache;
+import com.handy.appserver.cache.ProductListItemCache;
 import com.handy.appserver.dto.DetailImageRequest;
+import com.handy.appserver.dto.ProductFilterRequest;
+import com.handy.appserver.dto.ProductFilterResponse;
+import com.handy.appserver.dto.ProductCursor;
 import com.handy.appserver.dto.ProductListResponse;
 import com.handy.appserver.dto.ProductListPageResponse;
+import com.handy.appserver.dto.ProductListRow;
+import com.handy.appserver.dto.ProductResponse;
 import com.handy.appserver.dto.ProductSearchResponse;
+import com.handy.appserver.dto.ProductSuggestionResponse;
 import com.handy.appserver.entity.product.*;
 import com.handy.appserver.entity.user.User;
 import com.handy.appserver.entity.user.UserRole;
+import com.handy.appserver.event.ProductChangedEvent;
 import com.handy.appserver.repository.CategoryRepository;
 import com.handy.appserver.repository.ProductRepository;
+import com.handy.appserver.repository.ProductSpecifications;
 import com.handy.appserver.repository.UserRepository;
+import com.handy.appserver.search.ProductAutocomplete;
+import com.handy.appserver.search.ProductFuzzySearch;
+import com.handy.appserver.search.ProductCatalog;
+import com.handy.appserver.search.ProductSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,11 +57,24 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final int MAX_BATCH_SIZE = 100;    // 여러 상품 조회 최대 건수
+    private static final int BATCH_CHUNK_SIZE = 50;   // IN 절 하나에 넣는 최대 ID 수
+
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final ImageService imageService;
-    private final S3Service s3Service;
+    private final CategoryService categoryService;
+    private final ImageFinalizationService imageFinalizationService;
+    private final ImageUploadRegistry uploadRegistry;
+    private final ProductSearchIndex productSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CountCache countCache;
+    private final ProductDetailCache productDetailCache;
+    private final HomeFeedStore homeFeedStore;
+    private final ProductListItemCache productListItemCache;
+    private final ProductCatalog productCatalog;
+    private final ProductAutocomplete productAutocomplete;
+    private final ProductFuzzySearch productFuzzySearch;
 
     @Transactional
     public Product createProduct(
@@ -49,7 +90,8 @@ public class ProductService {
             boolean customAvailable,
             List<Long> categoryIds,
             String mainImageUrl,
-            List<DetailImageRequest> detailImages) {
+            List<DetailImageRequest> detailImages,
+            Long reservedProductId) {
         
         User seller = userRepository.findById(sellerId)
                 .orElseThrow(() -> new IllegalArgumentException("판매자를 찾을 수 없습니다."));
@@ -64,7 +106,22 @@ public class ProductService {
             throw new IllegalArgumentException("존재하지 않는 카테고리가 포함되어 있습니다.");
         }
 
-        Product _product = Product.builder()
+        // 업로드 세션에서 미리 받은 상품 ID면 이미지가 이미 products/{id} 폴더에 있으므로 복사 없이 그대로 저장
+        if (reservedProductId != null && (!uploadRegistry.isProductReservedBy(sellerId, reservedProductId)
+                || productRepository.existsById(reservedProductId))) {
+            throw new IllegalArgumentException("사용할 수 없는 상품 ID입니다.");
+        }
+
+        // 임시 폴더 이미지는 임시 URL 그대로 저장하고, products 폴더로의 복사는 커밋 이후 이미지 확정 작업에서 처리
+        List<DetailImageRequest> details = detailImages != null ? detailImages : List.of();
+        imageFinalizationService.requireProductImageUrl(mainImageUrl, reservedProductId);
+        details.forEach(detail -> imageFinalizationService.requireProductImageUrl(detail.getImageUrl(), reservedProductId));
+        List<String> uploadedImageUrls = new ArrayList<>();
+        uploadedImageUrls.add(mainImageUrl);
+        details.forEach(detail -> uploadedImageUrls.add(detail.getImageUrl()));
+        uploadRegistry.attach(sellerId, uploadedImageUrls);
+
+        Product product = Product.builder()
                 .seller(seller)
                 .name(name)
                 .description(description)
@@ -77,46 +134,31 @@ public class ProductService {
                 .productionDays(productionDays)
                 .customAvailable(customAvailable)
                 .build();
+        categories.forEach(product::addCategory);
+        if (reservedProductId != null) {
+            product.preassignId(reservedProductId);
+        }
 
-        try {
-            // 먼저 상품을 저장하여 ID를 생성
-            _product = productRepository.save(_product);
-            final Long productId = _product.getId();
-
-            // 메인 이미지를 임시 폴더에서 products 폴더로 이동하고 업데이트
-            if (mainImageUrl != null) {
-                String finalMainImageUrl = s3Service.moveToProductsFolder(mainImageUrl, productId, true);
-                _product.setMainImageUrl(finalMainImageUrl);
-            }
-
-            // 상세 이미지를 임시 폴더에서 products 폴더로 이동
-            if (detailImages != null && !detailImages.isEmpty()) {
-                List<ProductImage> productImages = detailImages.stream()
-                        .map(detailImage -> {
-                            String finalImageUrl = s3Service.moveToProductsFolder(detailImage.getImageUrl(), productId, false);
-                            return ProductImage.builder()
-                                    .imageUrl(finalImageUrl)
-                                    .description(detailImage.getDescription())
-                                    .build();
-                        })
-                        .collect(Collectors.toList());
-                
+        if (!details.isEmpty()) {
+            List<ProductImage> productImages = new ArrayList<>();
+            for (int i = 0; i < details.size(); i++) {
+                ProductImage productImage = ProductImage.builder()
+                        .imageUrl(details.get(i).getImageUrl())
+                        .description(details.get(i).getDescription())
+                        .build();
                 // 이미지 순서 설정
-                for (int i = 0; i < productImages.size(); i++) {
-                    productImages.get(i).updateImageOrder(i);
-                }
-                
-                _product.updateDetailImages(productImages);
-            }
-
-            return productRepository.save(_product);
-        } catch (Exception e) {
-            // 실패 시 업로드된 이미지 정리
-            if (_product.getId() != null) {
-                s3Service.deleteProductImages(_product.getId());
+                productImage.updateImageOrder(i);
+                productImages.add(productImage);
             }
-            throw new RuntimeException("상품 생성 중 오류가 발생했습니다.", e);
+            product.updateDetailImages(productImages);
         }
+
+        // 저장하면서 상품/상세 이미지 ID가 정해지므로 그 뒤에 확정 작업 등록
+        Product savedProduct = productRepository.save(product);
+        imageFinalizationService.enqueueProductImages(savedProduct);
+        imageFinalizationService.enqueueThumbnails(savedProduct.getId(), uploadedImageUrls);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.ChangeType.CREATED, savedProduct));
+        return savedProduct;
     }
 
     @Transactional
@@ -149,59 +191,84 @@ public class ProductService {
             throw new IllegalArgumentException("존재하지 않는 카테고리가 포함되어 있습니다.");
         }
 
-        try {
-            // 기존 이미지 URL 저장
-            String oldMainImageUrl = product.getMainImageUrl();
-            List<String> oldDetailImageUrls = product.getDetailImages().stream()
-                    .map(ProductImage::getImageUrl)
-                    .collect(Collectors.toList());
-
-            // 메인 이미지 업데이트
-            if (mainImageUrl != null && !mainImageUrl.equals(oldMainImageUrl)) {
-                String finalMainImageUrl = s3Service.moveToProductsFolder(mainImageUrl, productId, true);
-                product.setMainImageUrl(finalMainImageUrl);
-                // 기존 메인 이미지 삭제
-                s3Service.deleteImage(oldMainImageUrl);
+        // 기존 이미지 URL 저장
+        String oldMainImageUrl = product.getMainImageUrl();
+        List<String> oldDetailImageUrls = product.getDetailImages().stream()
+                .map(ProductImage::getImageUrl)
+                .collect(Collectors.toList());
+        Set<String> thumbnailReadyImageUrls = product.getDetailImages().stream()
+                .filter(ProductImage::isThumbnailReady)
+                .map(ProductImage::getImageUrl)
+                .collect(Collectors.toSet());
+
+        // 임시 폴더 이미지는 임시 URL 그대로 저장하고 커밋 이후 이미지 확정 작업에서 products 폴더로 복사
+        // 업로드 세션으로 products/{id} 폴더에 바로 올린 이미지는 복사 없이 그대로 저장
+        boolean mainImageChanged = mainImageUrl != null && !mainImageUrl.equals(oldMainImageUrl);
+        List<String> uploadedImageUrls = new ArrayList<>();
+        if (mainImageChanged) {
+            imageFinalizationService.requireProductImageUrl(mainImageUrl, productId);
+            uploadedImageUrls.add(mainImageUrl);
+        }
+        List<DetailImageRequest> details = detailImages != null ? detailImages : List.of();
+        for (DetailImageRequest detail : details) {
+            // 기존 상세 이미지를 그대로 다시 보내는 경우는 허용
+            if (!oldDetailImageUrls.contains(detail.getImageUrl())) {
+                imageFinalizationService.requireProductImageUrl(detail.getImageUrl(), productId);
+                uploadedImageUrls.add(detail.getImageUrl());
             }
-
-            // 상세 이미지 업데이트
-            if (detailImages != null) {
-                List<ProductImage> newDetailImages = detailImages.stream()
-                        .map(detailImage -> {
-                            String finalImageUrl = s3Service.moveToProductsFolder(detailImage.getImageUrl(), productId, false);
-                            return ProductImage.builder()
-                                    .imageUrl(finalImageUrl)
-                                    .description(detailImage.getDescription())
-                                    .build();
-                        })
-                        .collect(Collectors.toList());
-
-                // 기존 상세 이미지 삭제
-                oldDetailImageUrls.forEach(s3Service::deleteImage);
-                
-                // 새로운 상세 이미지 설정
-                product.updateDetailImages(newDetailImages);
+        }
+        uploadRegistry.attach(sellerId, uploadedImageUrls);
+
+        // 교체된 기존 이미지는 커밋 이후 삭제 (롤백되면 작업도 함께 사라지므로 기존 이미지를 계속 사용)
+        List<String> replacedImageUrls = new ArrayList<>();
+        if (mainImageChanged) {
+            product.setMainImageUrl(mainImageUrl);
+            if (oldMainImageUrl != null) {
+                replacedImageUrls.add(oldMainImageUrl);
             }
+        }
 
-            // 상품 정보 업데이트
-            product.update(name, description, product.getMainImageUrl(), shape, shapeChangeable,
-                    size, sizeChangeable, price, productionDays, customAvailable);
-
-            // 카테고리 업데이트
-            product.getCategories().clear();
-            categories.forEach(product::addCategory);
-
-            return productRepository.save(product);
-        } catch (Exception e) {
-            // 실패 시 업로드된 이미지 정리
-            if (mainImageUrl != null && !mainImageUrl.equals(product.getMainImageUrl())) {
-                s3Service.deleteImage(mainImageUrl);
-            }
-            if (detailImages != null) {
-                detailImages.forEach(image -> s3Service.deleteImage(image.getImageUrl()));
+        // 상세 이미지 업데이트
+        if (detailImages != null) {
+            List<ProductImage> newDetailImages = new ArrayList<>();
+            for (int i = 0; i < details.size(); i++) {
+                ProductImage productImage = ProductImage.builder()
+                        .imageUrl(details.get(i).getImageUrl())
+                        .description(details.get(i).getDescription())
+                        .build();
+                productImage.updateImageOrder(i);
+                // 유지되는 이미지는 썸네일을 다시 만들지 않으므로 생성 완료 여부를 그대로 옮김
+                if (thumbnailReadyImageUrls.contains(details.get(i).getImageUrl())) {
+                    productImage.markThumbnailReady();
+                }
+                newDetailImages.add(productImage);
             }
-            throw new RuntimeException("상품 수정 중 오류가 발생했습니다.", e);
+            Set<String> keptImageUrls = details.stream()
+                    .map(DetailImageRequest::getImageUrl)
+                    .collect(Collectors.toSet());
+            oldDetailImageUrls.stream()
+                    .filter(url -> !keptImageUrls.contains(url))
+                    .forEach(replacedImageUrls::add);
+
+            // 새로운 상세 이미지 설정
+            product.updateDetailImages(newDetailImages);
         }
+        imageFinalizationService.enqueueDeletes(replacedImageUrls);
+
+        // 상품 정보 업데이트
+        product.update(name, description, product.getMainImageUrl(), shape, shapeChangeable,
+                size, sizeChangeable, price, productionDays, customAvailable);
+
+        // 카테고리 업데이트
+        product.getCategories().clear();
+        categories.forEach(product::addCategory);
+
+        // updatedAt 반영을 위해 flush 후 변경 이벤트 발행 (flush 이후 새 상세 이미지 ID가 정해짐)
+        Product savedProduct = productRepository.saveAndFlush(product);
+        imageFinalizationService.enqueueProductImages(savedProduct);
+        imageFinalizationService.enqueueThumbnails(savedProduct.getId(), uploadedImageUrls);
+        eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.ChangeType.UPDATED, savedProduct));
+        return savedProduct;
     }
 
     // 상품 삭제 (비활성화)
@@ -215,6 +282,8 @@ public class ProductService {
         }
 
         product.deactivate();
+        productRepository.flush();
+        eventPublisher.publishEvent(ProductChangedEvent.of(ProductChangedEvent.ChangeType.DEACTIVATED, product));
     }
 
     // 상품 상세 조회
@@ -223,53 +292,122 @@ public class ProductService {
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
     }
 
+    // 상품 상세 응답 조회 (캐시에 없을 때만 상품/판매자/이미지/카테고리를 조회해 응답 생성)
+    public ProductResponse getProductResponse(Long productId) {
+        return productDetailCache.get(productId, id -> new ProductResponse(getProduct(id)));
+    }
+
     // 판매자의 상품 목록 조회
     public Page<Product> getSellerProducts(Long sellerId, String keyword, Pageable pageable) {
         User seller = userRepository.findById(sellerId)
                 .orElseThrow(() -> new IllegalArgumentException("판매자를 찾을 수 없습니다."));
         
         if (keyword != null && !keyword.trim().isEmpty()) {
+            if (productSearchIndex.isReady()) {
+                return searchIndexed(keyword, doc -> seller.getId().equals(doc.getSellerId()), pageable);
+            }
             return productRepository.findBySellerAndNameContaining(seller, keyword.trim(), pageable);
         }
-        return productRepository.findBySeller(seller, pageable);
+        return countCache.toPage(productRepository.findBySeller(seller, pageable),
+                "products:seller:" + sellerId, () -> productRepository.countBySeller(seller));
     }
 
     // 카테고리별 상품 목록 조회
     public Page<Product> getProductsByCategory(Long categoryId, String keyword, Pageable pageable) {
         if (keyword != null && !keyword.trim().isEmpty()) {
+            if (productSearchIndex.isReady()) {
+                return searchIndexed(keyword, doc -> doc.getCategoryIds().contains(categoryId), pageable);
+            }
             return productRepository.findByCategoryIdAndNameContaining(categoryId, keyword.trim(), pageable);
         }
-        return productRepository.findByCategoryId(categoryId, pageable);
+        return countCache.toPage(productRepository.findByCategoryId(categoryId, pageable),
+                "products:category:" + categoryId, () -> productRepository.countByCategoryId(categoryId));
+    }
+
+    /**
+     * 카테고리별 상품 목록 조회
+     * @param includeSubcategories true면 하위 카테고리 상품까지 포함 (미리 계산된 하위 카테고리 ID로 IN 조회 한 번)
+     */
+    public Page<Product> getProductsByCategory(Long categoryId, String keyword, boolean includeSubcategories,
+                                               Pageable pageable) {
+        if (!includeSubcategories) {
+            return getProductsByCategory(categoryId, keyword, pageable);
+        }
+        Set<Long> categoryIds = categoryService.getDescendantIds(categoryId);
+        if (keyword != null && !keyword.trim().isEmpty()) {
+            if (productSearchIndex.isReady()) {
+                return searchIndexed(keyword,
+                        doc -> doc.getCategoryIds().stream().anyMatch(categoryIds::contains), pageable);
+            }
+            return productRepository.findByCategoryIdInAndNameContaining(categoryIds, keyword.trim(), pageable);
+        }
+        return countCache.toPage(productRepository.findByCategoryIdIn(categoryIds, pageable),
+                "products:category-tree:" + categoryId, () -> productRepository.countByCategoryIdIn(categoryIds));
     }
 
     // 상품명으로 검색
     public Page<Product> searchProductsByName(String keyword, Pageable pageable) {
+        if (productSearchIndex.isReady()) {
+            return searchIndexed(keyword, doc -> true, pageable);
+        }
         return productRepository.findByNameContaining(keyword.trim(), pageable);
     }
 
     // 활성화된 상품만 조회
     public Page<Product> getActiveProducts(String keyword, Pageable pageable) {
         if (keyword != null && !keyword.trim().isEmpty()) {
+            if (productSearchIndex.isReady()) {
+                return searchIndexed(keyword, ProductSearchIndex.IndexedProduct::isActive, pageable);
+            }
             return productRepository.findByIsActiveTrueAndNameContaining(keyword.trim(), pageable);
         }
-        return productRepository.findByIsActiveTrue(pageable);
+        return findActiveProducts(pageable);
+    }
+
+    /**
+     * 여러 상품 조회 (장바구니, 찜, 최근 본 상품 등)
+     * 중복 ID는 한 번만 조회하고 요청 순서대로 반환 (존재하지 않는 상품은 제외)
+     * 캐시에 없는 상품만 BATCH_CHUNK_SIZE개씩 나눠 IN 조회
+     */
+    public List<ProductListResponse> getProductsByIds(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = productIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "개의 상품까지 조회할 수 있습니다.");
+        }
+        Map<Long, ProductListResponse> found = productListItemCache.getAll(ids, this::loadListItems);
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
-    // 여러 상품 조회
-    public List<Product> getProductsByIds(List<Long> productIds) {
-        return productRepository.findByIds(productIds);
+    private Map<Long, ProductListResponse> loadListItems(Collection<Long> productIds) {
+        List<Long> ids = new ArrayList<>(productIds);
+        Map<Long, ProductListResponse> loaded = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BATCH_CHUNK_SIZE, ids.size()));
+            toListResponses(productRepository.findListRowsByIds(chunk))
+                    .forEach(product -> loaded.put(product.getId(), product));
+        }
+        return loaded;
     }
 
     // 추천 상품 목록 조회
-    public ProductListPageResponse getProductList(int listNum, String sort, Integer page) {
+    public ProductListPageResponse getProductList(int listNum, String sort, Integer page, String cursor) {
         // 기본값 설정
         if (listNum <= 0) {
             listNum = 10;
         }
-        
+
         // 페이지 설정 (0부터 시작)
         int pageNumber = (page != null && page > 0) ? page - 1 : 0;
-        
+
         // 정렬 타입 파싱
         ProductSortType sortType;
         try {
@@ -277,43 +415,344 @@ public class ProductService {
         } catch (IllegalArgumentException e) {
             sortType = ProductSortType.CREATED_AT_DESC; // 기본값: 최신순
         }
-        
-        // 추천순인 경우 임시로 최신순으로 처리 (추후 추천 알고리즘 구현 시 변경)
-        if (sortType == ProductSortType.RECOMMEND) {
-            sortType = ProductSortType.CREATED_AT_DESC;
+
+        // 커서 모드: OFFSET 없이 (정렬 필드, id) 기준으로 다음 페이지 조회
+        if (cursor != null) {
+            ProductScroll scroll = scroll(true, null, null, null, sortType, cursor, listNum);
+            List<ProductListResponse> data = scroll.content().stream()
+                    .map(ProductListResponse::new)
+                    .collect(Collectors.toList());
+            return new ProductListPageResponse(data, scroll.total(), 0, listNum, scroll.nextCursor());
         }
-        
-        Pageable pageable = PageRequest.of(pageNumber, listNum, Sort.by(Sort.Direction.fromString(sortType.getDirection()), sortType.getField()));
-        Page<Product> productPage = productRepository.findByIsActiveTrue(pageable);
-        
+
+        // 미리 계산된 앞쪽 페이지는 DB 조회 없이 반환
+        Optional<HomeFeedStore.FeedPage> feedPage = homeFeedStore.page(sortType, pageNumber, listNum);
+        if (feedPage.isPresent()) {
+            List<ProductListResponse> items = feedPage.get().items();
+            return new ProductListPageResponse(
+                items,
+                countCache.get("products:active", productRepository::countByIsActiveTrue),
+                pageNumber + 1,
+                listNum,
+                feedPage.get().hasNext() && !items.isEmpty()
+                        ? ProductCursor.of(sortType, items.get(items.size() - 1)).encode() : null
+            );
+        }
+
+        Pageable pageable = PageRequest.of(pageNumber, listNum, keysetSort(sortType));
+        Page<ProductListRow> rowPage = findActiveListRows(pageable);
+
         return new ProductListPageResponse(
-            productPage.getContent(),
-            productPage.getTotalElements(),
+            toListResponses(rowPage.getContent()),
+            rowPage.getTotalElements(),
             pageNumber + 1, // 클라이언트는 1부터 시작하는 페이지 번호를 받음
-            listNum
+            listNum,
+            rowPage.hasNext() ? nextRowCursor(sortType, rowPage.getContent()) : null
         );
     }
 
     // 상품 검색 (활성화된 상품만)
-    public ProductSearchResponse searchProducts(String keyword, int page, int size, ProductSortType sort) {
+    public ProductSearchResponse searchProducts(String keyword, int page, int size, ProductSortType sort, String cursor) {
+        if (sort == null) {
+            sort = ProductSortType.CREATED_AT_DESC; // 기본값: 최신순
+        }
+
+        if (cursor != null) {
+            return scrollProducts(null, null, false, true, keyword, sort, cursor, size);
+        }
+
         // 페이지는 1부터 시작하므로 0부터 시작하는 Spring Data Page로 변환
         Pageable pageable = createPageable(page - 1, size, sort);
-        
-        Page<Product> productPage;
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            productPage = productRepository.findByIsActiveTrueAndNameContaining(keyword.trim(), pageable);
+
+        Page<ProductListRow> rowPage;
+        if (keyword != null && !keyword.trim().isEmpty() && productSearchIndex.isReady()) {
+            Page<Long> idPage = searchIndexedIds(keyword, ProductSearchIndex.IndexedProduct::isActive, sort, pageable);
+            rowPage = new PageImpl<>(findListRowsInOrder(idPage.getContent()), pageable, idPage.getTotalElements());
+        } else if (keyword != null && !keyword.trim().isEmpty()) {
+            rowPage = productRepository.findActiveListRowsByNameContaining(keyword.trim(), pageable);
         } else {
-            productPage = productRepository.findByIsActiveTrue(pageable);
+            rowPage = findActiveListRows(pageable);
         }
-        
-        Page<ProductListResponse> responsePage = productPage.map(ProductListResponse::new);
-        return ProductSearchResponse.from(responsePage);
+
+        Page<ProductListResponse> responsePage = new PageImpl<>(
+                toListResponses(rowPage.getContent()), pageable, rowPage.getTotalElements());
+        return ProductSearchResponse.from(responsePage,
+                rowPage.hasNext() ? nextRowCursor(sort, rowPage.getContent()) : null);
+    }
+
+    /**
+     * 상품명 오타 허용 검색 (자모 단위 편집 거리, 가까운 순 → 추천 점수 순)
+     * 색인 준비 전에는 빈 결과를 반환 (테이블 전체 스캔으로 대신하지 않음)
+     */
+    public ProductSearchResponse fuzzySearchProducts(String keyword, int page, int size) {
+        // 페이지는 1부터 시작하므로 0부터 시작하는 Spring Data Page로 변환
+        Pageable pageable = PageRequest.of(Math.max(page - 1, 0), Math.max(size, 1));
+        if (keyword == null || keyword.isBlank() || !productFuzzySearch.isReady()) {
+            return ProductSearchResponse.from(Page.empty(pageable));
+        }
+        List<Long> ids = productFuzzySearch.search(keyword);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        List<Long> pageIds = ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+        return ProductSearchResponse.from(new PageImpl<>(
+                toListResponses(findListRowsInOrder(pageIds)), pageable, ids.size()));
+    }
+
+    /**
+     * 검색어 자동완성 (활성화된 상품명 전방일치, 초성 입력 지원, 추천 점수 순)
+     * 자동완성 색인 준비 전에는 상품명 전방일치 쿼리로 처리 (초성 검색 불가)
+     */
+    public List<ProductSuggestionResponse> autocomplete(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        int size = Math.min(Math.max(limit, 1), ProductAutocomplete.MAX_SUGGESTIONS);
+        if (productAutocomplete.isReady()) {
+            return productAutocomplete.suggest(keyword, size).stream()
+                    .map(suggestion -> new ProductSuggestionResponse(suggestion.id(), suggestion.name()))
+                    .collect(Collectors.toList());
+        }
+        return productRepository.findByIsActiveTrueAndNameStartingWith(keyword.trim(),
+                        PageRequest.of(0, size, keysetSort(ProductSortType.RECOMMEND))).stream()
+                .map(product -> new ProductSuggestionResponse(product.getId(), product.getName()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 모양/크기/가격/제작일/맞춤 제작/카테고리 필터 검색 (활성화된 상품만)
+     * 카탈로그 준비 전에는 DB 조건 조회로 처리하고 항목별 건수(facets)는 제공하지 않음
+     */
+    public ProductFilterResponse filterProducts(ProductFilterRequest request) {
+        if (request.getPage() < 1 || request.getSize() < 1) {
+            throw new IllegalArgumentException("잘못된 페이지 요청입니다.");
+        }
+        ProductSortType sort = request.getSort() != null ? request.getSort() : ProductSortType.CREATED_AT_DESC;
+        int pageIndex = request.getPage() - 1;
+
+        if (productCatalog.isReady()) {
+            ProductCatalog.FilterResult result = productCatalog.filter(request, sort, pageIndex, request.getSize());
+            return new ProductFilterResponse(
+                    toListResponses(findListRowsInOrder(result.ids())),
+                    result.total(),
+                    request.getPage(),
+                    request.getSize(),
+                    new ProductFilterResponse.Facets(result.shapeCounts(), result.sizeCounts(),
+                            result.customAvailableCount())
+            );
+        }
+
+        List<Specification<Product>> conditions = new ArrayList<>();
+        conditions.add(ProductSpecifications.isActive());
+        if (request.getShapes() != null && !request.getShapes().isEmpty()) {
+            conditions.add(ProductSpecifications.shapeIn(request.getShapes()));
+        }
+        if (request.getSizes() != null && !request.getSizes().isEmpty()) {
+            conditions.add(ProductSpecifications.sizeIn(request.getSizes()));
+        }
+        if (request.getMinPrice() != null) {
+            conditions.add(ProductSpecifications.priceAtLeast(request.getMinPrice()));
+        }
+        if (request.getMaxPrice() != null) {
+            conditions.add(ProductSpecifications.priceAtMost(request.getMaxPrice()));
+        }
+        if (request.getMaxProductionDays() != null) {
+            conditions.add(ProductSpecifications.productionDaysAtMost(request.getMaxProductionDays()));
+        }
+        if (request.getCustomAvailable() != null) {
+            conditions.add(ProductSpecifications.customAvailable(request.getCustomAvailable()));
+        }
+        if (request.getCategoryId() != null) {
+            conditions.add(ProductSpecifications.inCategory(request.getCategoryId()));
+        }
+        Page<Product> productPage = productRepository.findAll(Specification.allOf(conditions),
+                PageRequest.of(pageIndex, request.getSize(), keysetSort(sort)));
+        List<ProductListResponse> data = productPage.getContent().stream()
+                .map(ProductListResponse::new)
+                .collect(Collectors.toList());
+        return new ProductFilterResponse(data, productPage.getTotalElements(), request.getPage(), request.getSize(), null);
+    }
+
+    /**
+     * 커서(keyset) 기반 상품 목록 조회
+     * 첫 페이지는 빈 커서로 요청하고, 이후에는 응답의 nextCursor를 그대로 전달
+     * @param sellerId 판매자 조건 (null이면 전체)
+     * @param categoryId 카테고리 조건 (null이면 전체)
+     * @param activeOnly 활성화된 상품만 조회할지 여부
+     */
+    public ProductSearchResponse scrollProducts(Long sellerId, Long categoryId, boolean includeSubcategories,
+                                                boolean activeOnly, String keyword,
+                                                ProductSortType sort, String cursor, int size) {
+        ProductSortType sortType = sort != null ? sort : ProductSortType.CREATED_AT_DESC;
+        ProductScroll scroll = scroll(activeOnly, sellerId, categoryId, includeSubcategories, keyword, sortType, cursor, size);
+        List<ProductListResponse> data = scroll.content().stream()
+                .map(ProductListResponse::new)
+                .collect(Collectors.toList());
+        return new ProductSearchResponse(data, scroll.total(), 0, size, scroll.nextCursor());
+    }
+
+    private ProductScroll scroll(boolean activeOnly, Long sellerId, Long categoryId, boolean includeSubcategories,
+                                 String keyword, ProductSortType sortType, String cursor, int size) {
+        ProductCursor after = (cursor == null || cursor.isBlank()) ? null : ProductCursor.decode(cursor);
+        if (after != null && after.getSort() != sortType) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청과 다릅니다.");
+        }
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        Set<Long> categoryIds = categoryId == null ? null
+                : includeSubcategories ? categoryService.getDescendantIds(categoryId) : Set.of(categoryId);
+
+        // 키워드 검색은 색인 결과에서 커서 위치를 찾아 이어서 반환
+        if (hasKeyword && productSearchIndex.isReady()) {
+            ProductSearchIndex.SearchPage result = productSearchIndex.searchAfter(keyword,
+                    doc -> (!activeOnly || doc.isActive())
+                            && (sellerId == null || sellerId.equals(doc.getSellerId()))
+                            && (categoryIds == null || doc.getCategoryIds().stream().anyMatch(categoryIds::contains)),
+                    sortType, after, size);
+            List<Product> content = findAllInOrder(result.ids());
+            return new ProductScroll(content, result.total(), result.hasNext() ? result.next().encode() : null);
+        }
+
+        List<Specification<Product>> conditions = new ArrayList<>();
+        if (activeOnly) {
+            conditions.add(ProductSpecifications.isActive());
+        }
+        if (sellerId != null) {
+            conditions.add(ProductSpecifications.hasSeller(sellerId));
+        }
+        if (categoryId != null) {
+            conditions.add(includeSubcategories
+                    ? ProductSpecifications.inAnyCategory(categoryIds)
+                    : ProductSpecifications.inCategory(categoryId));
+        }
+        if (hasKeyword) {
+            conditions.add(ProductSpecifications.nameContains(keyword.trim()));
+        }
+        Specification<Product> filter = Specification.allOf(conditions);
+        Specification<Product> seek = after != null ? filter.and(ProductSpecifications.after(after)) : filter;
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1건 조회
+        List<Product> rows = productRepository.findBy(seek,
+                query -> query.sortBy(keysetSort(sortType)).limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        List<Product> content = hasNext ? rows.subList(0, size) : rows;
+        String countKey = "products:scroll:" + activeOnly + ":" + sellerId + ":" + categoryId + ":" + includeSubcategories + ":" + (hasKeyword ? keyword.trim() : "");
+        long total = countCache.get(countKey, () -> productRepository.count(filter));
+        return new ProductScroll(content, total, hasNext ? nextCursor(sortType, content) : null);
+    }
+
+    // 활성화된 상품 페이지 (COUNT 쿼리 대신 캐시된 전체 건수 사용)
+    private Page<Product> findActiveProducts(Pageable pageable) {
+        return countCache.toPage(productRepository.findByIsActiveTrue(pageable),
+                "products:active", productRepository::countByIsActiveTrue);
+    }
+
+    // 활성화된 상품 목록 프로젝션 페이지 (COUNT 쿼리 대신 캐시된 전체 건수 사용)
+    private Page<ProductListRow> findActiveListRows(Pageable pageable) {
+        return countCache.toPage(productRepository.findActiveListRows(pageable),
+                "products:active", productRepository::countByIsActiveTrue);
+    }
+
+    /**
+     * 목록 프로젝션을 응답으로 변환
+     * 상세 이미지는 페이지의 상품 ID로 한 번에 조회 (엔티티/지연 로딩 없음)
+     */
+    private List<ProductListResponse> toListResponses(List<ProductListRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rows.stream().map(ProductListRow::getId).collect(Collectors.toList());
+        return ProductListResponse.fromRows(rows, productRepository.findImageRowsByProductIds(ids));
+    }
+
+    private List<ProductListRow> findListRowsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductListRow> rowMap = productRepository.findListRowsByIds(ids).stream()
+                .collect(Collectors.toMap(ProductListRow::getId, Function.identity()));
+        return ids.stream()
+                .map(rowMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private String nextRowCursor(ProductSortType sortType, List<ProductListRow> content) {
+        if (content.isEmpty()) {
+            return null;
+        }
+        return ProductCursor.of(sortType, content.get(content.size() - 1)).encode();
+    }
+
+    private String nextCursor(ProductSortType sortType, List<Product> content) {
+        if (content.isEmpty()) {
+            return null;
+        }
+        return ProductCursor.of(sortType, content.get(content.size() - 1)).encode();
     }
 
     private Pageable createPageable(int page, int size, ProductSortType sort) {
         if (sort == null) {
             sort = ProductSortType.CREATED_AT_DESC; // 기본값: 최신순
         }
-        return PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(sort.getDirection()), sort.getField()));
+        return PageRequest.of(page, size, keysetSort(sort));
+    }
+
+    /**
+     * (정렬 필드, id) 정렬 - 같은 값이 여러 건이어도 페이지 경계가 항상 같도록 id로 순서를 확정
+     * 추천순은 미리 계산된 recommendScore 컬럼 기준 ((is_active, recommend_score, id) 인덱스 범위 조회)
+     */
+    private Sort keysetSort(ProductSortType sortType) {
+        Sort.Direction direction = Sort.Direction.fromString(sortType.getDirection());
+        return Sort.by(direction, sortType.getField()).and(Sort.by(direction, "id"));
+    }
+
+    private record ProductScroll(List<Product> content, long total, String nextCursor) {
+    }
+
+    /**
+     * 검색 색인에서 정렬된 ID 목록을 얻고, 요청 페이지에 해당하는 ID만 DB에서 조회
+     */
+    private Page<Product> searchIndexed(String keyword,
+                                        Predicate<ProductSearchIndex.IndexedProduct> filter,
+                                        Pageable pageable) {
+        return searchIndexed(keyword, filter, toSortType(pageable.getSort()), pageable);
+    }
+
+    private Page<Product> searchIndexed(String keyword,
+                                        Predicate<ProductSearchIndex.IndexedProduct> filter,
+                                        ProductSortType sortType,
+                                        Pageable pageable) {
+        Page<Long> idPage = searchIndexedIds(keyword, filter, sortType, pageable);
+        return new PageImpl<>(findAllInOrder(idPage.getContent()), pageable, idPage.getTotalElements());
+    }
+
+    private Page<Long> searchIndexedIds(String keyword,
+                                        Predicate<ProductSearchIndex.IndexedProduct> filter,
+                                        ProductSortType sortType,
+                                        Pageable pageable) {
+        List<Long> ids = productSearchIndex.search(keyword, filter, sortType);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(ids.subList(from, to), pageable, ids.size());
+    }
+
+    private List<Product> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> productMap = productRepository.findByIds(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(productMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private ProductSortType toSortType(Sort sort) {
+        for (ProductSortType type : ProductSortType.values()) {
+            Sort.Order order = sort.getOrderFor(type.getField());
+            if (order != null && order.getDirection().name().equalsIgnoreCase(type.getDirection())) {
+                return type;
+            }
+        }
+        return ProductSortType.CREATED_AT_DESC;
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.handy.appserver.service;
 
+import com.handy.appserver.cache.CountCache;
 import com.handy.appserver.dto.ReportRequest;
 import com.handy.appserver.dto.ReportResponse;
 import com.handy.appserver.entity.comment.Comment;
@@ -32,6 +33,7 @@ public class ReportService {
     private final UserRepository userRepository;
     private final SnapPostRepository snapPostRepository;
     private final CommentRepository commentRepository;
+    private final CountCache countCache;
 
     @Transactional
     public ReportResponse createReport(ReportRequest request) {
@@ -52,7 +54,10 @@ public class ReportService {
 
     @Transactional(readOnly = true)
     public Page<ReportResponse> getReportsByTarget(ReportTargetType targetType, Long targetId, Pageable pageable) {
-        Page<Report> reports = reportRepository.findByTargetTypeAndTargetIdOrderByCreatedAtDesc(targetType, targetId, pageable);
+        Page<Report> reports = countCache.toPage(
+                reportRepository.findByTargetTypeAndTargetIdOrderByCreatedAtDesc(targetType, targetId, pageable),
+                "reports:target:" + targetType + ":" + targetId,
+                () -> reportRepository.countByTargetTypeAndTargetId(targetType, targetId));
         return reports.map(this::convertToResponse);
     }
 
@@ -61,13 +66,19 @@ public class ReportService {
         User reporter = userRepository.findById(reporterId)
                 .orElseThrow(() -> new IllegalArgumentException("신고자를 찾을 수 없습니다."));
         
-        Page<Report> reports = reportRepository.findByReporterOrderByCreatedAtDesc(reporter, pageable);
+        Page<Report> reports = countCache.toPage(
+                reportRepository.findByReporterOrderByCreatedAtDesc(reporter, pageable),
+                "reports:reporter:" + reporterId,
+                () -> reportRepository.countByReporter(reporter));
         return reports.map(this::convertToResponse);
     }
 
     @Transactional(readOnly = true)
     public Page<ReportResponse> getReportsByStatus(ReportStatus status, Pageable pageable) {
-        Page<Report> reports = reportRepository.findByStatusOrderByCreatedAtDesc(status, pageable);
+        Page<Report> reports = countCache.toPage(
+                reportRepository.findByStatusOrderByCreatedAtDesc(status, pageable),
+                "reports:status:" + status,
+                () -> reportRepository.countByStatus(status));
         return reports.map(this::convertToResponse);
     }
 
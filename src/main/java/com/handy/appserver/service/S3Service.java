@@ -1,77 +1,176 @@
 package com.handy.appserver.service;
 
-import com.amazonaws.HttpMethod;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.Headers;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.handy.appserver.entity.image.ImageUploadTarget;
+import com.handy.appserver.storage.ObjectStorage;
+import com.handy.appserver.storage.Thumbnails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.net.URL;
-import java.util.Date;
-import java.util.UUID;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
-    private final AmazonS3 amazonS3;
-
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-
-    @Value("${cloud.aws.region.static}")
-    private String region;
+    private final ObjectStorage storage;
+    private final ImageUploadRegistry uploadRegistry;
 
     @Value("${cloud.aws.s3.presigned-url.expiration}")
     private long presignedUrlExpiration;
 
-    private static final String TEMP_FOLDER = "temp/";
+    static final String TEMP_FOLDER = "temp/";
+    static final String ARCHIVED_PROFILE_PREFIX = TEMP_FOLDER + "old_profile_";  // 교체되어 보관 중인 프로필 이미지
     private static final String PRODUCTS_FOLDER = "products/";
     private static final String USERS_FOLDER = "users/";
+    private static final String SNAPS_FOLDER = "snaps/";
     private static final String DEFAULT_PROFILE_IMAGE_URL = "https://handy-images-bucket.s3.ap-northeast-2.amazonaws.com/default_user.png";
 
-    public String generatePresignedUrl(String fileName) {
-        String key = TEMP_FOLDER + UUID.randomUUID().toString() + "_" + fileName;
-        
-        GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucket, key)
-                .withMethod(HttpMethod.PUT)
-                .withExpiration(new Date(System.currentTimeMillis() + presignedUrlExpiration));
+    /**
+     * 임시 폴더 업로드용 presigned URL 생성 (발급한 key는 업로드 기록에 남김)
+     */
+    public String generatePresignedUrl(Long userId, String fileName) {
+        return generatePresignedUrls(userId, List.of(fileName)).get(0).presignedUrl();
+    }
+
+    /**
+     * 임시 폴더 업로드용 presigned URL 여러 개를 한 번에 생성 (요청 순서대로 반환)
+     */
+    public List<DirectUpload> generatePresignedUrls(Long userId, List<String> fileNames) {
+        List<String> keys = fileNames.stream()
+                .map(fileName -> TEMP_FOLDER + UUID.randomUUID().toString() + "_" + fileName)
+                .toList();
+        return presignUploads(userId, keys, ImageUploadTarget.TEMP, null);
+    }
+
+    /**
+     * 상품 이미지 최종 key(products/{productId}/main 또는 details)에 바로 올리는 presigned URL 생성
+     * @return 업로드할 key와 presigned URL
+     */
+    public DirectUpload generateProductImageUploadUrl(Long userId, Long productId, boolean isMainImage, String fileName) {
+        String key = productImageKey(productId, isMainImage, UUID.randomUUID().toString(), fileName);
+        return presignUploads(userId, List.of(key), ImageUploadTarget.PRODUCT, productId).get(0);
+    }
 
-        URL presignedUrl = amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
-        return presignedUrl.toString();
+    /**
+     * 상품 이미지 최종 key 여러 개에 대한 presigned URL을 한 번에 생성 (요청 순서대로 반환)
+     * @param mainImageFlags fileNames와 같은 순서의 대표 이미지 여부
+     */
+    public List<DirectUpload> generateProductImageUploadUrls(Long userId, Long productId,
+                                                            List<String> fileNames, List<Boolean> mainImageFlags) {
+        List<String> keys = new ArrayList<>(fileNames.size());
+        for (int i = 0; i < fileNames.size(); i++) {
+            keys.add(productImageKey(productId, mainImageFlags.get(i), UUID.randomUUID().toString(), fileNames.get(i)));
+        }
+        return presignUploads(userId, keys, ImageUploadTarget.PRODUCT, productId);
+    }
+
+    /**
+     * 프로필 이미지 최종 key(users/{userId}/profile)에 바로 올리는 presigned URL 생성
+     */
+    public DirectUpload generateProfileImageUploadUrl(Long userId, String fileName) {
+        String key = profileImageKey(userId, UUID.randomUUID().toString(), fileName);
+        return presignUploads(userId, List.of(key), ImageUploadTarget.PROFILE, userId).get(0);
+    }
+
+    // 서명은 네트워크 호출 없이 공유 presigner로 계산하고, 업로드 기록은 한 번에 저장
+    private List<DirectUpload> presignUploads(Long userId, List<String> keys, ImageUploadTarget target, Long ownerId) {
+        if (keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Duration expiration = Duration.ofMillis(presignedUrlExpiration);
+        List<DirectUpload> uploads = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            uploads.add(new DirectUpload(key, storage.urlOf(key), storage.presignPut(key, expiration)));
+        }
+        uploadRegistry.registerAll(userId, keys, target, ownerId, expiration);
+        return uploads;
     }
 
     public String moveToProductsFolder(String tempImageUrl, Long productId, boolean isMainImage) {
+        String newUrl = copyToProductsFolder(tempImageUrl, productId, isMainImage);
+
+        // 임시 파일 삭제
+        deleteImage(tempImageUrl);
+        return newUrl;
+    }
+
+    /**
+     * 임시 폴더 이미지를 products/{productId}/main 또는 details 폴더로 복사 (임시 파일은 그대로 둠)
+     * @return 복사된 이미지 URL
+     */
+    public String copyToProductsFolder(String tempImageUrl, Long productId, boolean isMainImage) {
         // tempImageUrl에서 key 추출
         String tempKey = extractKeyFromUrl(tempImageUrl);
         if (tempKey == null || !tempKey.startsWith(TEMP_FOLDER)) {
             throw new IllegalArgumentException("유효하지 않은 임시 이미지 URL입니다.");
         }
 
-        // 새로운 key 생성 (products/{productId}/main 또는 details 폴더로)
-        String fileName = tempKey.substring(tempKey.lastIndexOf("/") + 1);
-        String subFolder = isMainImage ? "main" : "details";
         // UUID만 사용하여 파일명 생성 (순서 정보 제외)
-        String newFileName = UUID.randomUUID().toString() + "_" + fileName;
-        String newKey = String.format("%s%d/%s/%s", PRODUCTS_FOLDER, productId, subFolder, newFileName);
+        String newKey = productImageKey(productId, isMainImage, UUID.randomUUID().toString(), tempKey);
 
         // 파일 복사
-        amazonS3.copyObject(bucket, tempKey, bucket, newKey);
-        
-        // 임시 파일 삭제
-        amazonS3.deleteObject(bucket, tempKey);
+        ObjectStorage.await(storage.copy(tempKey, newKey));
 
         // 새로운 URL 반환
-        return amazonS3.getUrl(bucket, newKey).toString();
+        return storage.urlOf(newKey);
+    }
+
+    /**
+     * 상품 이미지 key (products/{productId}/main 또는 details/{prefix}_{원본 파일명})
+     */
+    public String productImageKey(Long productId, boolean isMainImage, String prefix, String sourceKey) {
+        String fileName = sourceKey.substring(sourceKey.lastIndexOf("/") + 1);
+        String subFolder = isMainImage ? "main" : "details";
+        return String.format("%s%d/%s/%s_%s", PRODUCTS_FOLDER, productId, subFolder, prefix, fileName);
+    }
+
+    /**
+     * 프로필 이미지 key (users/{userId}/profile/{prefix}_{원본 파일명})
+     */
+    public String profileImageKey(Long userId, String prefix, String sourceKey) {
+        String fileName = sourceKey.substring(sourceKey.lastIndexOf("/") + 1);
+        return String.format("%s%d/profile/%s_%s", USERS_FOLDER, userId, prefix, fileName);
+    }
+
+    /**
+     * 스냅 이미지 key (snaps/{snapPostId}/{prefix}_{원본 파일명})
+     */
+    public String snapImageKey(Long snapPostId, String prefix, String sourceKey) {
+        String fileName = sourceKey.substring(sourceKey.lastIndexOf("/") + 1);
+        return String.format("%s%d/%s_%s", SNAPS_FOLDER, snapPostId, prefix, fileName);
+    }
+
+    /**
+     * 이미지를 지정한 key로 복사 (같은 key로 다시 복사해도 결과가 같으므로 재시도해도 안전)
+     * @return 복사된 이미지 URL
+     */
+    public CompletableFuture<String> copyToKey(String sourceImageUrl, String targetKey) {
+        String sourceKey = extractKeyFromUrl(sourceImageUrl);
+        if (sourceKey == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("유효하지 않은 이미지 URL입니다."));
+        }
+        return storage.copy(sourceKey, targetKey).thenApply(copied -> storage.urlOf(targetKey));
+    }
+
+    public CompletableFuture<Boolean> doesKeyExist(String key) {
+        return storage.exists(key);
+    }
+
+    public String getUrl(String key) {
+        return storage.urlOf(key);
     }
 
     /**
@@ -103,15 +202,15 @@ public class S3Service {
 
         try {
             // 파일 복사
-            amazonS3.copyObject(bucket, tempKey, bucket, newKey);
+            ObjectStorage.await(storage.copy(tempKey, newKey));
             log.debug("Successfully copied file from {} to {}", tempKey, newKey);
             
             // 임시 파일 삭제
-            amazonS3.deleteObject(bucket, tempKey);
+            ObjectStorage.await(storage.delete(tempKey));
             log.debug("Successfully deleted temp file: {}", tempKey);
 
             // 새로운 URL 반환
-            String newUrl = amazonS3.getUrl(bucket, newKey).toString();
+            String newUrl = storage.urlOf(newKey);
             log.debug("Generated new URL: {}", newUrl);
             return newUrl;
         } catch (Exception e) {
@@ -143,16 +242,14 @@ public class S3Service {
 
         // temp 폴더로 이동할 새로운 key 생성
         String fileName = currentKey.substring(currentKey.lastIndexOf("/") + 1);
-        String tempKey = TEMP_FOLDER + "old_profile_" + System.currentTimeMillis() + "_" + fileName;
+        String tempKey = ARCHIVED_PROFILE_PREFIX + System.currentTimeMillis() + "_" + fileName;
 
         log.debug("Moving old profile image from {} to {}", currentKey, tempKey);
 
         try {
-            // 파일 복사
-            amazonS3.copyObject(bucket, currentKey, bucket, tempKey);
-            
-            // 원본 파일 삭제
-            amazonS3.deleteObject(bucket, currentKey);
+            // 파일 복사 후 원본 파일 삭제
+            ObjectStorage.await(storage.copy(currentKey, tempKey)
+                    .thenCompose(copied -> storage.delete(currentKey)));
             
             log.debug("Successfully moved old profile image to temp folder");
         } catch (Exception e) {
@@ -164,86 +261,75 @@ public class S3Service {
     /**
      * 프로필 이미지용 presigned URL 생성
      */
-    public String generateProfileImagePresignedUrl(String fileName) {
+    public String generateProfileImagePresignedUrl(Long userId, String fileName) {
         String key = TEMP_FOLDER + "profile_" + UUID.randomUUID().toString() + "_" + fileName;
-        
-        GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucket, key)
-                .withMethod(HttpMethod.PUT)
-                .withExpiration(new Date(System.currentTimeMillis() + presignedUrlExpiration));
+        return presignUploads(userId, List.of(key), ImageUploadTarget.TEMP, null).get(0).presignedUrl();
+    }
 
-        URL presignedUrl = amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
-        return presignedUrl.toString();
+    public String extractKeyFromUrl(String url) {
+        // 예: https://bucket.s3.region.amazonaws.com/temp/uuid_filename.jpg → temp/uuid_filename.jpg
+        return storage.keyOf(url);
     }
 
-    private String extractKeyFromUrl(String url) {
-        try {
-            log.debug("Extracting key from URL: {}", url);
-            
-            if (url == null || url.trim().isEmpty()) {
-                log.warn("URL is null or empty");
-                return null;
-            }
-            
-            URL parsedUrl = new URL(url);
-            String path = parsedUrl.getPath();
-            log.debug("Parsed path: {}", path);
-            
-            // URL에서 bucket 이름을 제외한 경로 추출
-            // 예: https://bucket.s3.region.amazonaws.com/temp/uuid_filename.jpg
-            // path는 /temp/uuid_filename.jpg 형태
-            
-            if (path.length() <= 1) {
-                log.warn("Path is too short: {}", path);
-                return null;
-            }
-            
-            // 첫 번째 슬래시 제거
-            String key = path.substring(1);
-            log.debug("Extracted key: {}", key);
-            
-            return key;
-        } catch (Exception e) {
-            log.error("Error extracting key from URL: {}", url, e);
-            return null;
-        }
+    /**
+     * 상품 폴더(products/{productId}/) 아래 이미지 URL인지 확인
+     */
+    public boolean isProductFolderImageUrl(String imageUrl, Long productId) {
+        String key = extractKeyFromUrl(imageUrl);
+        return key != null && key.startsWith(String.format("%s%d/", PRODUCTS_FOLDER, productId));
     }
 
-    public void deleteProductImages(Long productId) {
-        String productPrefix = String.format("%s%d/", PRODUCTS_FOLDER, productId);
-        amazonS3.listObjects(bucket, productPrefix).getObjectSummaries()
-                .forEach(object -> amazonS3.deleteObject(bucket, object.getKey()));
+    /**
+     * 프로필 폴더(users/{userId}/profile/) 아래 이미지 URL인지 확인
+     */
+    public boolean isProfileFolderImageUrl(String imageUrl, Long userId) {
+        String key = extractKeyFromUrl(imageUrl);
+        return key != null && key.startsWith(String.format("%s%d/profile/", USERS_FOLDER, userId));
     }
 
-    public void deleteImage(String imageUrl) {
+    /**
+     * 임시(temp) 폴더에 업로드된 이미지 URL인지 확인
+     */
+    public boolean isTempImageUrl(String imageUrl) {
+        String key = extractKeyFromUrl(imageUrl);
+        return key != null && key.startsWith(TEMP_FOLDER);
+    }
+
+    /**
+     * 원본 이미지와 썸네일 URL (썸네일이 없는 이미지면 원본만)
+     */
+    public List<String> withThumbnails(String imageUrl) {
+        List<String> urls = new ArrayList<>();
+        urls.add(imageUrl);
         String key = extractKeyFromUrl(imageUrl);
         if (key != null) {
-            amazonS3.deleteObject(bucket, key);
+            Thumbnails.keysFor(key).forEach(thumbnailKey -> urls.add(storage.urlOf(thumbnailKey)));
         }
+        return urls;
     }
 
     /**
-     * URL 검증을 위한 테스트 메서드 (디버깅용)
+     * 여러 이미지를 DeleteObjects로 1000개씩 묶어 삭제
+     * @return 삭제에 실패한 이미지 URL
      */
-    public void validateImageUrl(String imageUrl) {
-        log.info("=== URL Validation Debug ===");
-        log.info("Input URL: {}", imageUrl);
-        
-        try {
-            URL parsedUrl = new URL(imageUrl);
-            log.info("Parsed URL - Protocol: {}, Host: {}, Path: {}", 
-                    parsedUrl.getProtocol(), parsedUrl.getHost(), parsedUrl.getPath());
-            
-            String extractedKey = extractKeyFromUrl(imageUrl);
-            log.info("Extracted Key: {}", extractedKey);
-            
-            if (extractedKey != null) {
-                log.info("Starts with temp folder: {}", extractedKey.startsWith(TEMP_FOLDER));
-                log.info("File exists in S3: {}", amazonS3.doesObjectExist(bucket, extractedKey));
+    public CompletableFuture<Set<String>> deleteImages(Collection<String> imageUrls) {
+        Map<String, String> urlByKey = new HashMap<>();
+        for (String imageUrl : imageUrls) {
+            String key = extractKeyFromUrl(imageUrl);
+            if (key != null) {
+                urlByKey.put(key, imageUrl);
             }
-        } catch (Exception e) {
-            log.error("URL validation failed", e);
         }
-        log.info("=== End URL Validation ===");
+        return storage.deleteAll(List.copyOf(urlByKey.keySet())).thenApply(failedKeys -> {
+            Set<String> failedUrls = new HashSet<>();
+            failedKeys.forEach(failedKey -> failedUrls.add(urlByKey.get(failedKey)));
+            return failedUrls;
+        });
+    }
+
+    public CompletableFuture<Void> deleteImage(String imageUrl) {
+        String key = extractKeyFromUrl(imageUrl);
+        return key == null ? CompletableFuture.completedFuture(null) : storage.delete(key);
     }
 
     /**
@@ -257,7 +343,7 @@ public class S3Service {
                 return false;
             }
             
-            boolean exists = amazonS3.doesObjectExist(bucket, key);
+            boolean exists = ObjectStorage.await(storage.exists(key));
             log.info("File exists in S3 - Key: {}, Exists: {}", key, exists);
             return exists;
         } catch (Exception e) {
@@ -267,26 +353,8 @@ public class S3Service {
     }
 
     /**
-     * S3 버킷 정보 확인
+     * 최종 key에 바로 올리는 업로드 (imageUrl은 업로드 후 그대로 저장할 URL)
      */
-    public void checkBucketInfo() {
-        try {
-            log.info("=== S3 Bucket Info ===");
-            log.info("Bucket name: {}", bucket);
-            log.info("Region: {}", region);
-            log.info("Bucket exists: {}", amazonS3.doesBucketExist(bucket));
-            
-            // 버킷의 객체 수 확인
-            int objectCount = amazonS3.listObjects(bucket).getObjectSummaries().size();
-            log.info("Total objects in bucket: {}", objectCount);
-            
-            // temp 폴더의 객체 수 확인
-            int tempObjectCount = amazonS3.listObjects(bucket, TEMP_FOLDER).getObjectSummaries().size();
-            log.info("Objects in temp folder: {}", tempObjectCount);
-            
-            log.info("=== End S3 Bucket Info ===");
-        } catch (Exception e) {
-            log.error("Error checking bucket info: {}", e.getMessage(), e);
-        }
+    public record DirectUpload(String key, String imageUrl, String presignedUrl) {
     }
-} 
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.handy.appserver.service;
 
+import com.handy.appserver.cache.CountCache;
 import com.handy.appserver.dto.SnapPostRequest;
 import com.handy.appserver.dto.SnapPostResponse;
 import com.handy.appserver.dto.SnapPostWithLikeInfoResponse;
@@ -7,15 +8,23 @@ import com.handy.appserver.entity.user.User;
 import com.handy.appserver.entity.snap.SnapImage;
 import com.handy.appserver.entity.snap.SnapPost;
 import com.handy.appserver.entity.like.LikeTargetType;
+import com.handy.appserver.event.SnapPostChangedEvent;
 import com.handy.appserver.repository.SnapPostRepository;
 import com.handy.appserver.repository.UserRepository;
+import com.handy.appserver.search.SnapFuzzySearch;
+import com.handy.appserver.storage.Thumbnails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +34,10 @@ public class SnapPostService {
     private final SnapPostRepository snapPostRepository;
     private final UserRepository userRepository;
     private final LikeService likeService;
+    private final CountCache countCache;
+    private final SnapFuzzySearch snapFuzzySearch;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageFinalizationService imageFinalizationService;
     private static final String DEFAULT_PROFILE_IMAGE_URL = "https://handy-images-bucket.s3.ap-northeast-2.amazonaws.com/default_user.png";
 
     @Transactional
@@ -51,6 +64,10 @@ public class SnapPostService {
         }
 
         SnapPost savedSnapPost = snapPostRepository.save(snapPost);
+        // 임시 폴더 이미지는 커밋 이후 snaps/{id} 폴더로 옮기고 썸네일 생성
+        imageFinalizationService.enqueueSnapImages(savedSnapPost);
+        eventPublisher.publishEvent(new SnapPostChangedEvent(
+                savedSnapPost.getId(), savedSnapPost.getTitle(), savedSnapPost.isActive()));
         return convertToResponse(savedSnapPost, user, user);
     }
 
@@ -68,17 +85,46 @@ public class SnapPostService {
 
     @Transactional(readOnly = true)
     public Page<SnapPostResponse> getAllSnapPosts(Pageable pageable, User currentUser) {
-        Page<SnapPost> snapPosts = snapPostRepository.findByIsActiveTrue(pageable);
+        // COUNT 쿼리 없이 Slice로 조회하고 전체 건수는 캐시된 값 사용
+        Page<SnapPost> snapPosts = countCache.toPage(snapPostRepository.findByIsActiveTrue(pageable),
+                "snaps:active", snapPostRepository::countByIsActiveTrue);
         return snapPosts.map(snapPost -> convertToResponse(snapPost, snapPost.getUser(), currentUser));
     }
 
+    /**
+     * 스냅 제목 오타 허용 검색 (자모 단위 편집 거리, 가까운 순 → 최신순)
+     * 색인 준비 전에는 빈 결과를 반환 (테이블 전체 스캔으로 대신하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Page<SnapPostResponse> searchSnapPostsFuzzy(String keyword, Pageable pageable, User currentUser) {
+        if (keyword == null || keyword.isBlank() || !snapFuzzySearch.isReady()) {
+            return Page.empty(pageable);
+        }
+        // 색인과 DB가 잠시 어긋날 수 있으므로 후보 전체(최대 FuzzyIndex.MAX_RESULTS건)를 확인한 뒤 자르고 건수를 셈
+        List<Long> ids = snapFuzzySearch.search(keyword);
+        Map<Long, SnapPost> snapPosts = snapPostRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(SnapPost::getId, Function.identity()));
+        List<SnapPost> matches = ids.stream()
+                .map(snapPosts::get)
+                .filter(Objects::nonNull)
+                .filter(SnapPost::isActive)
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        List<SnapPostResponse> content = matches.subList(from, Math.min(from + pageable.getPageSize(), matches.size())).stream()
+                .map(snapPost -> convertToResponse(snapPost, snapPost.getUser(), currentUser))
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
     @Transactional(readOnly = true)
     public Page<SnapPostResponse> getSnapPostsByUserId(Long userId, Pageable pageable, User currentUser) {
         // 사용자 존재 여부 확인
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
-        Page<SnapPost> snapPosts = snapPostRepository.findByUserAndIsActiveTrue(user, pageable);
+        Page<SnapPost> snapPosts = countCache.toPage(snapPostRepository.findByUserAndIsActiveTrue(user, pageable),
+                "snaps:user:" + userId, () -> snapPostRepository.countByUserAndIsActiveTrue(user));
         return snapPosts.map(snapPost -> convertToResponse(snapPost, user, currentUser));
     }
 
@@ -100,6 +146,9 @@ public class SnapPostService {
                 .map(SnapImage::getImageUrl)
                 .collect(Collectors.toList());
         response.setImages(imageUrls);
+        response.setThumbnails(snapPost.getImages().stream()
+                .map(image -> Thumbnails.urlFor(image.getImageUrl(), image.isThumbnailReady(), Thumbnails.LIST_WIDTH))
+                .collect(Collectors.toList()));
         
         // 좋아요 수 계산
         int likeCount = likeService.getLikeCount(snapPost.getId(), LikeTargetType.SNAP);
@@ -0,0 +1,198 @@
+package com.handy.appserver.service;
+
+import com.handy.appserver.entity.image.ImageJobStatus;
+import com.handy.appserver.repository.ImageFinalizationJobRepository;
+import com.handy.appserver.repository.ProductImageRepository;
+import com.handy.appserver.repository.ProductRepository;
+import com.handy.appserver.repository.SnapImageRepository;
+import com.handy.appserver.repository.UserRepository;
+import com.handy.appserver.storage.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * temp/ 폴더 정리 (버려진 presigned 업로드와 오래 보관한 이전 프로필 이미지 삭제)
+ * - S3 목록은 key 순서라 나이순 조회가 안 되므로, 1000개씩 끝까지 넘기며 마지막 수정 시각으로 만료 여부를 판단
+ * - 만료된 key라도 아직 DB 행(상품/상세/프로필/스냅 이미지)이나 끝나지 않은 이미지 확정 작업이 가리키면 남김
+ *   DB 행 참조는 실행마다 한 번만 조회하고, 페이지마다 끝나지 않은 작업만 다시 조회
+ *   (임시 URL을 저장하는 요청은 같은 트랜잭션에서 확정 작업을 등록하므로 조회 이후 생긴 참조도 작업으로 잡힘)
+ * - 페이지마다 DeleteObjects 한 번으로 삭제하고, 페이지 사이 대기와 실행당 최대 삭제 수로 속도를 제한
+ * - 여러 서버에서 돌아도 같은 key를 지울 뿐이므로 안전 (필요하면 enabled로 한 서버에서만 실행)
+ */
+@Slf4j
+@Component
+public class TempUploadSweeper {
+
+    private static final String TEMP_URL_PATTERN = "%/" + S3Service.TEMP_FOLDER + "%";
+    private static final List<ImageJobStatus> UNFINISHED_JOB_STATUSES =
+            List.of(ImageJobStatus.PENDING, ImageJobStatus.PROCESSING, ImageJobStatus.FAILED);
+
+    private final ObjectStorage storage;
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final UserRepository userRepository;
+    private final SnapImageRepository snapImageRepository;
+    private final ImageFinalizationJobRepository jobRepository;
+    private final TransactionTemplate readTransaction;
+    private final boolean enabled;
+    private final Duration uploadTtl;
+    private final Duration archiveTtl;
+    private final int pageSize;
+    private final long pageDelayMillis;
+    private final int maxDeletesPerRun;
+
+    public TempUploadSweeper(ObjectStorage storage,
+                             ProductRepository productRepository,
+                             ProductImageRepository productImageRepository,
+                             UserRepository userRepository,
+                             SnapImageRepository snapImageRepository,
+                             ImageFinalizationJobRepository jobRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${storage.temp-sweep.enabled:true}") boolean enabled,
+                             @Value("${storage.temp-sweep.upload-ttl-hours:24}") long uploadTtlHours,
+                             @Value("${storage.temp-sweep.archive-ttl-days:30}") long archiveTtlDays,
+                             @Value("${storage.temp-sweep.page-size:1000}") int pageSize,
+                             @Value("${storage.temp-sweep.page-delay-ms:200}") long pageDelayMillis,
+                             @Value("${storage.temp-sweep.max-deletes-per-run:20000}") int maxDeletesPerRun) {
+        this.storage = storage;
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+        this.userRepository = userRepository;
+        this.snapImageRepository = snapImageRepository;
+        this.jobRepository = jobRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.uploadTtl = Duration.ofHours(uploadTtlHours);
+        this.archiveTtl = Duration.ofDays(archiveTtlDays);
+        this.pageSize = pageSize;
+        this.pageDelayMillis = pageDelayMillis;
+        this.maxDeletesPerRun = maxDeletesPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${storage.temp-sweep.initial-delay-ms:600000}",
+            fixedDelayString = "${storage.temp-sweep.interval-ms:3600000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            sweepOnce();
+        } catch (RuntimeException e) {
+            log.error("Temp upload sweep failed", e);
+        }
+    }
+
+    private void sweepOnce() {
+        long startedAt = System.currentTimeMillis();
+        Instant now = Instant.now();
+        Instant uploadCutoff = now.minus(uploadTtl);
+        Instant archiveCutoff = now.minus(archiveTtl);
+
+        int runScanned = 0;
+        int runSwept = 0;
+        int runRetained = 0;
+        int runFailed = 0;
+        Set<String> referencedKeys = null;
+        String continuationToken = null;
+        do {
+            ObjectStorage.ObjectPage page = ObjectStorage.await(
+                    storage.list(S3Service.TEMP_FOLDER, continuationToken, pageSize));
+            runScanned += page.objects().size();
+
+            List<String> expiredKeys = page.objects().stream()
+                    .filter(object -> object.lastModified().isBefore(
+                            object.key().startsWith(S3Service.ARCHIVED_PROFILE_PREFIX) ? archiveCutoff : uploadCutoff))
+                    .map(ObjectStorage.StoredObject::key)
+                    .toList();
+            if (!expiredKeys.isEmpty()) {
+                if (referencedKeys == null) {
+                    referencedKeys = referencedTempKeys();
+                }
+                // 삭제 직전에 작업만 다시 확인해야 그 사이 등록된 상품/작업이 가리키는 key를 지우지 않음
+                Set<String> retainedKeys = new HashSet<>(referencedKeys);
+                retainedKeys.addAll(unfinishedJobTempKeys());
+                List<String> deletableKeys = expiredKeys.stream()
+                        .filter(key -> !retainedKeys.contains(key))
+                        .limit(Math.max(0, maxDeletesPerRun - runSwept))
+                        .toList();
+                runRetained += (int) expiredKeys.stream().filter(retainedKeys::contains).count();
+
+                List<String> failedKeys = ObjectStorage.await(storage.deleteAll(deletableKeys));
+                runSwept += deletableKeys.size() - failedKeys.size();
+                runFailed += failedKeys.size();
+            }
+
+            continuationToken = page.nextContinuationToken();
+            if (continuationToken != null && !pause()) {
+                break;
+            }
+        } while (continuationToken != null && runSwept < maxDeletesPerRun);
+
+        log.info("Temp upload sweep - scanned: {}, swept: {}, retained: {}, failed: {}, complete: {}, took: {}ms",
+                runScanned, runSwept, runRetained, runFailed, continuationToken == null,
+                System.currentTimeMillis() - startedAt);
+    }
+
+    // 임시 폴더 key 중 DB 행이 가리키는 것
+    private Set<String> referencedTempKeys() {
+        return readTransaction.execute(status -> {
+            Set<String> keys = new HashSet<>();
+            for (String url : productRepository.findMainImageUrlsLike(TEMP_URL_PATTERN)) {
+                addKey(keys, url);
+            }
+            for (String url : productImageRepository.findImageUrlsLike(TEMP_URL_PATTERN)) {
+                addKey(keys, url);
+            }
+            for (String url : userRepository.findProfileImageUrlsLike(TEMP_URL_PATTERN)) {
+                addKey(keys, url);
+            }
+            for (String url : snapImageRepository.findImageUrlsLike(TEMP_URL_PATTERN)) {
+                addKey(keys, url);
+            }
+            return keys;
+        });
+    }
+
+    // 끝나지 않은 이미지 확정 작업이 가리키는 key
+    private Set<String> unfinishedJobTempKeys() {
+        return readTransaction.execute(status -> {
+            Set<String> keys = new HashSet<>();
+            for (String url : jobRepository.findSourceUrlsByStatusIn(UNFINISHED_JOB_STATUSES)) {
+                addKey(keys, url);
+            }
+            return keys;
+        });
+    }
+
+    private void addKey(Set<String> keys, String url) {
+        String key = storage.keyOf(url);
+        if (key != null) {
+            keys.add(key);
+        }
+    }
+
+    // 페이지 사이 대기 (S3 요청 속도 제한), 중단되면 false
+    private boolean pause() {
+        if (pageDelayMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pageDelayMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
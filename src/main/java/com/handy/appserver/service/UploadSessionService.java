@@ -0,0 +1,110 @@
+package com.handy.appserver.service;
+
+import com.handy.appserver.dto.UploadFileRequest;
+import com.handy.appserver.dto.UploadSessionResponse;
+import com.handy.appserver.entity.common.SnowflakeIdGenerator;
+import com.handy.appserver.entity.product.Product;
+import com.handy.appserver.entity.user.User;
+import com.handy.appserver.entity.user.UserRole;
+import com.handy.appserver.repository.ProductRepository;
+import com.handy.appserver.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 업로드 세션 (최종 key를 먼저 정해 presigned PUT을 바로 그 key로 발급)
+ * 임시 폴더에 올린 뒤 복사/삭제로 옮기는 과정이 없고, 상품/프로필 저장 시에는 업로드 기록만 ATTACHED로 바꿈
+ * 새 상품은 상품 ID를 미리 발급해 key 경로에 쓰고, 등록 요청의 productId로 그 ID를 그대로 사용
+ * 여러 장을 올릴 때는 한 요청에서 모두 서명하고 업로드 기록도 한 번에 저장 (파일마다 요청하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UploadSessionService {
+
+    private static final int MAX_BATCH_SIZE = 20;   // 한 번에 발급하는 최대 업로드 수
+
+    private final S3Service s3Service;
+    private final ImageUploadRegistry uploadRegistry;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final SnowflakeIdGenerator idGenerator;
+
+    public UploadSessionResponse createProductImageSession(Long sellerId, Long productId, boolean isMainImage, String fileName) {
+        requireFileName(fileName);
+        Long targetProductId = productId != null ? requireWritableProduct(sellerId, productId) : reserveProductId(sellerId);
+        S3Service.DirectUpload upload = s3Service.generateProductImageUploadUrl(sellerId, targetProductId, isMainImage, fileName);
+        return new UploadSessionResponse(targetProductId, upload.imageUrl(), upload.presignedUrl());
+    }
+
+    /**
+     * 한 상품의 이미지 여러 장에 대한 업로드 세션 (요청 순서대로 반환, 새 상품이면 모두 같은 상품 ID를 사용)
+     */
+    public List<UploadSessionResponse> createProductImageSessions(Long sellerId, Long productId, List<UploadFileRequest> files) {
+        requireBatch(files);
+        files.forEach(file -> requireFileName(file.getFileName()));
+        Long targetProductId = productId != null ? requireWritableProduct(sellerId, productId) : reserveProductId(sellerId);
+        List<S3Service.DirectUpload> uploads = s3Service.generateProductImageUploadUrls(sellerId, targetProductId,
+                files.stream().map(UploadFileRequest::getFileName).toList(),
+                files.stream().map(UploadFileRequest::isMain).toList());
+        return uploads.stream()
+                .map(upload -> new UploadSessionResponse(targetProductId, upload.imageUrl(), upload.presignedUrl()))
+                .toList();
+    }
+
+    /**
+     * 임시 폴더 업로드 presigned URL 여러 개 (스냅 이미지 등 최종 key를 미리 정할 수 없는 업로드)
+     */
+    public List<UploadSessionResponse> createTempUploads(Long userId, List<String> fileNames) {
+        requireBatch(fileNames);
+        fileNames.forEach(this::requireFileName);
+        return s3Service.generatePresignedUrls(userId, fileNames).stream()
+                .map(upload -> new UploadSessionResponse(null, upload.imageUrl(), upload.presignedUrl()))
+                .toList();
+    }
+
+    public UploadSessionResponse createProfileImageSession(Long userId, String fileName) {
+        requireFileName(fileName);
+        S3Service.DirectUpload upload = s3Service.generateProfileImageUploadUrl(userId, fileName);
+        return new UploadSessionResponse(null, upload.imageUrl(), upload.presignedUrl());
+    }
+
+    // 새 상품 ID 발급 (등록 전까지는 이 판매자의 업로드 기록으로만 남음)
+    private Long reserveProductId(Long sellerId) {
+        User seller = userRepository.findById(sellerId)
+                .orElseThrow(() -> new IllegalArgumentException("판매자를 찾을 수 없습니다."));
+        if (!seller.getRole().equals(UserRole.SELLER)) {
+            throw new AccessDeniedException("판매자만 상품을 등록할 수 있습니다.");
+        }
+        return idGenerator.nextId();
+    }
+
+    // 자기 상품이거나, 앞선 세션에서 이 판매자에게 발급한 (아직 등록 전인) 상품 ID
+    private Long requireWritableProduct(Long sellerId, Long productId) {
+        Product product = productRepository.findById(productId).orElse(null);
+        if (product != null ? !product.getSeller().getId().equals(sellerId)
+                : !uploadRegistry.isProductReservedBy(sellerId, productId)) {
+            throw new AccessDeniedException("상품을 수정할 권한이 없습니다.");
+        }
+        return productId;
+    }
+
+    private void requireBatch(List<?> files) {
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        if (files.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "개까지 요청할 수 있습니다.");
+        }
+    }
+
+    private void requireFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("파일 이름이 제공되지 않았습니다.");
+        }
+    }
+}
@@ -5,13 +5,21 @@ import com.handy.appserver.dto.UserSnapProfileResponse;
 import com.handy.appserver.entity.like.LikeTargetType;
 import com.handy.appserver.entity.user.User;
 import com.handy.appserver.entity.user.UserRole;
+import com.handy.appserver.event.UserNameChangedEvent;
 import com.handy.appserver.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -20,8 +28,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final S3Service s3Service;
     private final LikeService likeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageFinalizationService imageFinalizationService;
+    private final ImageUploadRegistry uploadRegistry;
+    private final PlatformTransactionManager transactionManager;
     private static final String DEFAULT_PROFILE_IMAGE_URL = "https://handy-images-bucket.s3.ap-northeast-2.amazonaws.com/default_user.png";
 
     @Transactional
@@ -61,8 +72,13 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
+        boolean nameChanged = !Objects.equals(user.getName(), name);
         user.update(name);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        if (nameChanged) {
+            eventPublisher.publishEvent(new UserNameChangedEvent(userId, name));
+        }
+        return saved;
     }
 
     @Transactional
@@ -92,54 +108,44 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    @Transactional
-    public String updateProfileImage(Long userId, String tempImageUrl) {
-        log.debug("Updating profile image for user: {}, tempImageUrl: {}", userId, tempImageUrl);
+    /**
+     * 프로필 이미지 변경
+     * S3 확인은 트랜잭션 밖에서 하고, 트랜잭션에서는 URL 저장과 이미지 작업 등록만 함
+     * - 업로드 세션으로 users/{userId}/profile 폴더에 바로 올린 이미지는 복사 없이 그대로 사용 (썸네일만 생성)
+     * - 임시 폴더 이미지는 커밋 이후 작업에서 프로필 폴더로 옮기며, 그 전까지는 임시 URL을 반환/사용
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String updateProfileImage(Long userId, String imageUrl) {
+        log.debug("Updating profile image for user: {}, imageUrl: {}", userId, imageUrl);
         
         // URL 검증 추가
-        if (tempImageUrl == null || tempImageUrl.trim().isEmpty()) {
+        if (imageUrl == null || imageUrl.trim().isEmpty()) {
             throw new IllegalArgumentException("이미지 URL이 제공되지 않았습니다.");
         }
         
-        // S3Service의 URL 검증 메서드 호출 (디버깅용)
-        s3Service.validateImageUrl(tempImageUrl);
-        
-        // S3 버킷 정보 확인
-        s3Service.checkBucketInfo();
-        
-        // 파일 존재 여부 확인
-        boolean fileExists = s3Service.doesFileExist(tempImageUrl);
-        if (!fileExists) {
-            log.error("File does not exist in S3: {}", tempImageUrl);
-            throw new IllegalArgumentException("S3에 해당 파일이 존재하지 않습니다. 파일 업로드를 다시 시도해주세요.");
-        }
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        imageFinalizationService.requireProfileImageUrl(imageUrl, userId);
 
-        // 기존 프로필 이미지를 temp 폴더로 이동 (기본 이미지가 아닌 경우에만)
-        String currentProfileImageUrl = user.getProfileImageUrl();
-        if (currentProfileImageUrl != null && !currentProfileImageUrl.isEmpty() && !currentProfileImageUrl.equals(DEFAULT_PROFILE_IMAGE_URL)) {
-            try {
-                s3Service.moveProfileImageToTemp(currentProfileImageUrl);
-                log.debug("Moved old profile image to temp folder");
-            } catch (Exception e) {
-                log.warn("Failed to move old profile image to temp folder: {}", e.getMessage());
-                // 기존 이미지 이동 실패해도 새 이미지 설정은 계속 진행
+        // 이 사용자에게 발급한 업로드인지 기록으로 확인 (완료 알림을 받은 업로드면 S3 호출 없음, 아니면 HEAD 한 번)
+        uploadRegistry.requireUploaded(userId, imageUrl);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+            if (imageUrl.equals(user.getProfileImageUrl())) {
+                return;
             }
-        } else {
-            log.debug("Skipping old profile image move - it's either null, empty, or default image");
-        }
 
-        // 새로운 이미지를 user/{userId}/profile 폴더로 이동
-        String newProfileImageUrl = s3Service.moveToProfileFolder(tempImageUrl, userId);
-        
-        // 사용자 정보 업데이트
-        user.setProfileImageUrl(newProfileImageUrl);
-        userRepository.save(user);
-        
+            // 기존 프로필 이미지를 temp 폴더로 이동 (기본 이미지가 아닌 경우에만)
+            archiveProfileImage(user.getProfileImageUrl());
+
+            user.setProfileImageUrl(imageUrl);
+            userRepository.save(user);
+            uploadRegistry.attach(userId, List.of(imageUrl));
+            imageFinalizationService.enqueueProfileImage(userId, imageUrl);
+        });
+
         log.debug("Profile image updated successfully for user: {}", userId);
-        return newProfileImageUrl;
+        return imageUrl;
     }
 
     @Transactional
@@ -150,18 +156,7 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         // 기존 프로필 이미지를 temp 폴더로 이동 (기본 이미지가 아닌 경우에만)
-        String currentProfileImageUrl = user.getProfileImageUrl();
-        if (currentProfileImageUrl != null && !currentProfileImageUrl.isEmpty() && !currentProfileImageUrl.equals(DEFAULT_PROFILE_IMAGE_URL)) {
-            try {
-                s3Service.moveProfileImageToTemp(currentProfileImageUrl);
-                log.debug("Moved old profile image to temp folder");
-            } catch (Exception e) {
-                log.warn("Failed to move old profile image to temp folder: {}", e.getMessage());
-                // 기존 이미지 이동 실패해도 초기화는 계속 진행
-            }
-        } else {
-            log.debug("Skipping old profile image move - it's either null, empty, or already default image");
-        }
+        archiveProfileImage(user.getProfileImageUrl());
 
         // 기본 이미지로 설정
         user.setProfileImageUrl(DEFAULT_PROFILE_IMAGE_URL);
@@ -171,6 +166,15 @@ public class UserService {
         return DEFAULT_PROFILE_IMAGE_URL;
     }
 
+    // 기존 프로필 이미지를 커밋 이후 temp 폴더로 이동 (롤백되면 기존 이미지를 계속 사용)
+    private void archiveProfileImage(String currentProfileImageUrl) {
+        if (currentProfileImageUrl != null && !currentProfileImageUrl.isEmpty() && !currentProfileImageUrl.equals(DEFAULT_PROFILE_IMAGE_URL)) {
+            imageFinalizationService.enqueueProfileArchive(currentProfileImageUrl);
+        } else {
+            log.debug("Skipping old profile image move - it's either null, empty, or default image");
+        }
+    }
+
     @Transactional(readOnly = true)
     public UserSnapProfileResponse getUserSnapProfileInfo(Long userId, User currentUser) {
         log.debug("Getting snap profile info for user: {}, currentUser: {}", userId, currentUser != null ? currentUser.getId() : "null");
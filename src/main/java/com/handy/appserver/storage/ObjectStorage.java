@@ -0,0 +1,230 @@
+package com.handy.appserver.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * S3 버킷 접근 창구 (S3AsyncClient 하나와 공유 커넥션 풀 사용)
+ * - 모든 호출은 CompletableFuture를 반환하고 요청 스레드를 막지 않음 (결과가 꼭 필요한 곳에서만 join)
+ * - 작업별 지연 시간/실패 수를 StorageMetrics에 기록
+ * - presign은 네트워크 호출 없이 서명만 계산하므로 바로 반환
+ */
+@Slf4j
+@Component
+public class ObjectStorage {
+
+    public static final int MAX_KEYS_PER_REQUEST = 1000;  // ListObjectsV2/DeleteObjects 한 번에 처리하는 최대 key 수
+
+    private final S3AsyncClient s3;
+    private final S3Presigner presigner;
+    private final S3Utilities utilities;
+    private final StorageMetrics metrics;
+    private final String bucket;
+
+    public ObjectStorage(S3AsyncClient s3,
+                         S3Presigner presigner,
+                         StorageMetrics metrics,
+                         @Value("${cloud.aws.s3.bucket}") String bucket,
+                         @Value("${cloud.aws.region.static}") String region) {
+        this.s3 = s3;
+        this.presigner = presigner;
+        this.utilities = S3Utilities.builder().region(Region.of(region)).build();
+        this.metrics = metrics;
+        this.bucket = bucket;
+    }
+
+    public CompletableFuture<Void> copy(String sourceKey, String targetKey) {
+        return timed("copy", () -> s3.copyObject(builder -> builder
+                        .sourceBucket(bucket)
+                        .sourceKey(sourceKey)
+                        .destinationBucket(bucket)
+                        .destinationKey(targetKey))
+                .thenApply(response -> null));
+    }
+
+    /**
+     * Range 요청으로 앞에서부터 maxBytes + 1 바이트까지만 받으므로 큰 객체도 전체를 메모리에 올리지 않음
+     * @return 객체 내용, maxBytes보다 크면 빈 Optional
+     */
+    public CompletableFuture<Optional<byte[]>> get(String key, long maxBytes) {
+        return timed("get", () -> s3.getObject(builder -> builder.bucket(bucket).key(key).range("bytes=0-" + maxBytes),
+                        AsyncResponseTransformer.toBytes())
+                .thenApply(response -> {
+                    byte[] content = response.asByteArrayUnsafe();
+                    return content.length > maxBytes ? Optional.<byte[]>empty() : Optional.of(content);
+                }));
+    }
+
+    /**
+     * @param cacheControl 응답 Cache-Control 헤더 (없으면 null)
+     */
+    public CompletableFuture<Void> put(String key, byte[] content, String contentType, String cacheControl) {
+        return timed("put", () -> s3.putObject(builder -> builder
+                                .bucket(bucket)
+                                .key(key)
+                                .contentType(contentType)
+                                .cacheControl(cacheControl),
+                        AsyncRequestBody.fromBytes(content))
+                .thenApply(response -> null));
+    }
+
+    public CompletableFuture<Void> delete(String key) {
+        return timed("delete", () -> s3.deleteObject(builder -> builder.bucket(bucket).key(key))
+                .thenApply(response -> null));
+    }
+
+    /**
+     * DeleteObjects로 1000개씩 묶어 삭제 (묶음끼리는 동시에 요청)
+     * @return 삭제에 실패한 key (없는 key는 S3가 성공으로 처리)
+     */
+    public CompletableFuture<List<String>> deleteAll(List<String> keys) {
+        List<CompletableFuture<List<String>>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_REQUEST) {
+            List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + MAX_KEYS_PER_REQUEST, keys.size()))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            chunks.add(timed("deleteAll", () -> s3.deleteObjects(builder -> builder
+                            .bucket(bucket)
+                            .delete(Delete.builder().objects(objects).quiet(true).build()))
+                    .thenApply(response -> response.errors().stream()
+                            .peek(error -> log.warn("Failed to delete object - key: {}, code: {}", error.key(), error.code()))
+                            .map(S3Error::key)
+                            .toList())));
+        }
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .thenApply(done -> chunks.stream().flatMap(chunk -> chunk.join().stream()).toList());
+    }
+
+    /**
+     * HEAD 한 번으로 존재 여부 확인 (404는 false, 그 외 오류는 실패로 전달)
+     */
+    public CompletableFuture<Boolean> exists(String key) {
+        return timed("head", () -> s3.headObject(builder -> builder.bucket(bucket).key(key))
+                .handle((response, e) -> {
+                    if (e == null) {
+                        return true;
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof NoSuchKeyException
+                            || (cause instanceof S3Exception s3Exception && s3Exception.statusCode() == 404)) {
+                        return false;
+                    }
+                    throw new CompletionException(cause);
+                }));
+    }
+
+    /**
+     * prefix 아래 객체 목록 한 페이지
+     * @param continuationToken 이전 페이지의 nextContinuationToken (첫 페이지는 null)
+     */
+    public CompletableFuture<ObjectPage> list(String prefix, String continuationToken, int maxKeys) {
+        return timed("list", () -> s3.listObjectsV2(builder -> builder
+                        .bucket(bucket)
+                        .prefix(prefix)
+                        .maxKeys(Math.min(maxKeys, MAX_KEYS_PER_REQUEST))
+                        .continuationToken(continuationToken))
+                .thenApply(response -> new ObjectPage(
+                        response.contents().stream()
+                                .map(object -> new StoredObject(object.key(), object.size(), object.lastModified()))
+                                .toList(),
+                        Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null)));
+    }
+
+    /**
+     * 업로드용 presigned PUT URL
+     */
+    public String presignPut(String key, Duration expiration) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            String url = presigner.presignPutObject(builder -> builder
+                            .signatureDuration(expiration)
+                            .putObjectRequest(request -> request.bucket(bucket).key(key)))
+                    .url()
+                    .toString();
+            success = true;
+            return url;
+        } finally {
+            metrics.record("presign", System.nanoTime() - start, success);
+        }
+    }
+
+    public String urlOf(String key) {
+        return utilities.getUrl(builder -> builder.bucket(bucket).key(key)).toString();
+    }
+
+    /**
+     * https://{bucket}.s3.{region}.amazonaws.com/{key} 형식 URL에서 key 추출
+     * @return key (URL 형식이 아니거나 경로가 없으면 null)
+     */
+    public String keyOf(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            String path = new URL(url).getPath();
+            return path.length() <= 1 ? null : path.substring(1);
+        } catch (Exception e) {
+            log.warn("Could not extract key from URL: {}", url);
+            return null;
+        }
+    }
+
+    private <T> CompletableFuture<T> timed(String operation, Supplier<CompletableFuture<T>> call) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            metrics.record(operation, System.nanoTime() - start, false);
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, e) -> metrics.record(operation, System.nanoTime() - start, e == null));
+    }
+
+    /**
+     * join 결과의 CompletionException을 벗겨 원래 예외를 던짐 (동기 호출 쪽에서 사용)
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public record ObjectPage(List<StoredObject> objects, String nextContinuationToken) {
+        public List<String> keys() {
+            return objects.stream().map(StoredObject::key).toList();
+        }
+    }
+
+    public record StoredObject(String key, long size, Instant lastModified) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.handy.appserver.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 오브젝트 스토리지 작업별 호출 수/실패 수/지연 시간 집계 (누적값)
+ */
+@Slf4j
+@Component
+public class StorageMetrics {
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    void record(String operation, long elapsedNanos, boolean success) {
+        Operation stats = operations.computeIfAbsent(operation, key -> new Operation());
+        stats.count.increment();
+        if (!success) {
+            stats.errors.increment();
+        }
+        stats.totalNanos.add(elapsedNanos);
+        stats.maxNanos.accumulate(elapsedNanos);
+    }
+
+    public Map<String, Stats> stats() {
+        Map<String, Stats> result = new TreeMap<>();
+        operations.forEach((operation, stats) -> {
+            long count = stats.count.sum();
+            result.put(operation, new Stats(count, stats.errors.sum(),
+                    count == 0 ? 0 : stats.totalNanos.sum() / count / 1_000_000.0,
+                    stats.maxNanos.get() / 1_000_000.0));
+        });
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${storage.stats-log-interval-ms:300000}")
+    public void logStats() {
+        Map<String, Stats> stats = stats();
+        if (!stats.isEmpty()) {
+            log.info("Object storage - {}", stats);
+        }
+    }
+
+    public record Stats(long count, long errors, double avgMillis, double maxMillis) {
+    }
+
+    private static final class Operation {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    }
+}
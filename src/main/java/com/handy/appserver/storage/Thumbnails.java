@@ -0,0 +1,68 @@
+package com.handy.appserver.storage;
+
+import java.net.URL;
+import java.util.List;
+
+/**
+ * 썸네일 key/URL 규칙 (key는 원본 key만으로 계산, 생성 완료 여부는 이미지 컬럼 옆 thumbnail_ready 플래그로 저장)
+ * - {원본 폴더}/thumbs/w{폭}/{원본 파일명(확장자 제외)}.jpg
+ * - 확정된 이미지(products/, users/, snaps/)만 썸네일이 있음 (임시 폴더 이미지는 null)
+ * - 생성이 끝나기 전이거나 실패한 이미지는 URL을 내보내지 않음 (클라이언트는 원본 사용)
+ */
+public final class Thumbnails {
+
+    public static final int LIST_WIDTH = 480;  // 목록 응답에 쓰는 폭
+    public static final List<Integer> WIDTHS = List.of(LIST_WIDTH);
+
+    private static final List<String> FINAL_FOLDERS = List.of("products/", "users/", "snaps/");
+    private static final String THUMBS_FOLDER = "thumbs/";
+
+    private Thumbnails() {
+    }
+
+    public static boolean hasThumbnails(String key) {
+        return key != null
+                && FINAL_FOLDERS.stream().anyMatch(key::startsWith)
+                && !key.contains("/" + THUMBS_FOLDER);
+    }
+
+    public static String keyFor(String originalKey, int width) {
+        int slash = originalKey.lastIndexOf('/');
+        String folder = originalKey.substring(0, slash + 1);
+        String fileName = originalKey.substring(slash + 1);
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return folder + THUMBS_FOLDER + "w" + width + "/" + baseName + ".jpg";
+    }
+
+    /**
+     * 원본과 함께 지울 썸네일 key
+     */
+    public static List<String> keysFor(String originalKey) {
+        if (!hasThumbnails(originalKey)) {
+            return List.of();
+        }
+        return WIDTHS.stream().map(width -> keyFor(originalKey, width)).toList();
+    }
+
+    /**
+     * @param ready 썸네일 생성 완료 여부 (이미지의 thumbnail_ready 플래그)
+     * @return 원본 이미지 URL에 대응하는 썸네일 URL (생성되지 않았거나 썸네일이 없는 이미지면 null)
+     */
+    public static String urlFor(String imageUrl, boolean ready, int width) {
+        if (!ready || imageUrl == null || imageUrl.isBlank()) {
+            return null;
+        }
+        try {
+            URL url = new URL(imageUrl);
+            String path = url.getPath();
+            String key = path.length() <= 1 ? null : path.substring(1);
+            if (!hasThumbnails(key)) {
+                return null;
+            }
+            return new URL(url.getProtocol(), url.getHost(), url.getPort(), "/" + keyFor(key, width)).toString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.handy.appserver.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    private final List<Integer> loads = new ArrayList<>();
+
+    @Test
+    void evictsLeastRecentlyReadEntryOverCapacity() {
+        LruCache<Integer, String> cache = new LruCache<>(3, 60);
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+        cache.get(3, this::load);
+        cache.get(1, this::load);  // 1을 다시 조회해 2가 가장 오래된 항목이 됨
+
+        cache.get(4, this::load);
+
+        assertThat(cache.stats().size()).isEqualTo(3);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        loads.clear();
+        cache.get(1, this::load);
+        cache.get(3, this::load);
+        cache.get(4, this::load);
+        assertThat(loads).isEmpty();
+        cache.get(2, this::load);
+        assertThat(loads).containsExactly(2);
+    }
+
+    @Test
+    void expiredEntryIsLoadedAgain() throws InterruptedException {
+        LruCache<Integer, String> cache = new LruCache<>(10, 0);
+        cache.get(1, this::load);
+        Thread.sleep(5);
+
+        cache.get(1, this::load);
+
+        assertThat(loads).containsExactly(1, 1);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidationDuringLoadIsNotOverwritten() {
+        LruCache<Integer, String> cache = new LruCache<>(10, 60);
+
+        String value = cache.get(1, key -> {
+            cache.evict(key);  // 조회 중 변경 이벤트가 들어온 경우
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void getAllLoadsOnlyMissingKeysAndSkipsAbsentOnes() {
+        LruCache<Integer, String> cache = new LruCache<>(10, 60);
+        cache.get(1, this::load);
+        List<Collection<Integer>> requested = new ArrayList<>();
+
+        Map<Integer, String> result = cache.getAll(List.of(1, 2, 3), keys -> {
+            requested.add(List.copyOf(keys));
+            Map<Integer, String> loaded = new HashMap<>();
+            loaded.put(2, "v2");  // 3은 없는 키
+            return loaded;
+        });
+
+        assertThat(requested).containsExactly(List.of(2, 3));
+        assertThat(result).containsOnlyKeys(1, 2);
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidationDuringGetAllReturnsLoadedValuesWithoutCaching() {
+        LruCache<Integer, String> cache = new LruCache<>(10, 60);
+
+        Map<Integer, String> result = cache.getAll(List.of(1, 2), keys -> {
+            cache.evict(1);  // 여러 키 조회 중 변경 이벤트가 들어온 경우
+            Map<Integer, String> loaded = new HashMap<>();
+            keys.forEach(key -> loaded.put(key, "stale" + key));
+            return loaded;
+        });
+
+        assertThat(result).containsOnlyKeys(1, 2);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void nullValueIsNotCached() {
+        LruCache<Integer, String> cache = new LruCache<>(10, 60);
+        Function<Integer, String> missing = key -> {
+            loads.add(key);
+            return null;
+        };
+
+        cache.get(1, missing);
+        cache.get(1, missing);
+
+        assertThat(loads).containsExactly(1, 1);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void putReplacesValueWithoutLoading() {
+        LruCache<Integer, String> cache = new LruCache<>(10, 60);
+        cache.get(1, this::load);
+
+        cache.put(1, "exact");
+
+        assertThat(cache.get(1, this::load)).isEqualTo("exact");
+        assertThat(loads).containsExactly(1);
+    }
+
+    private String load(Integer key) {
+        loads.add(key);
+        return "v" + key;
+    }
+}
@@ -1,14 +1,21 @@
 package com.handy.appserver.config;
 
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.BasicAWSCredentials;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+
+/**
+ * 테스트용 S3 클라이언트 (실제 AWS 대신 로컬 엔드포인트를 가리킴)
+ */
 @TestConfiguration
 public class TestAwsConfig {
 
@@ -21,13 +28,32 @@ public class TestAwsConfig {
     @Value("${cloud.aws.region.static}")
     private String region;
 
-    @Bean
+    @Value("${cloud.aws.s3.endpoint:http://localhost:4566}")
+    private String endpoint;
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public S3AsyncClient testS3AsyncClient() {
+        return S3AsyncClient.builder()
+                .credentialsProvider(credentials())
+                .region(Region.of(region))
+                .endpointOverride(URI.create(endpoint))
+                .forcePathStyle(true)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
     @Primary
-    public AmazonS3 amazonS3() {
-        BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                .withRegion(region)
+    public S3Presigner testS3Presigner() {
+        return S3Presigner.builder()
+                .credentialsProvider(credentials())
+                .region(Region.of(region))
+                .endpointOverride(URI.create(endpoint))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
                 .build();
     }
-} 
\ No newline at end of file
+
+    private StaticCredentialsProvider credentials() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+}
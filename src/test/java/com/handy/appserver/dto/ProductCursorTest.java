@@ -0,0 +1,53 @@
+package com.handy.appserver.dto;
+
+import com.handy.appserver.entity.product.ProductSortType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+    @Test
+    void encodeDecodeRoundTripForDateTime() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_456_000);
+        ProductCursor cursor = new ProductCursor(ProductSortType.CREATED_AT_DESC, createdAt.toString(), 42L);
+
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSort()).isEqualTo(ProductSortType.CREATED_AT_DESC);
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.dateTimeValue()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void encodeDecodeRoundTripForPriceAndScore() {
+        ProductCursor price = ProductCursor.decode(
+                new ProductCursor(ProductSortType.PRICE_ASC, new BigDecimal("15000.50").toPlainString(), 7L).encode());
+        ProductCursor score = ProductCursor.decode(
+                new ProductCursor(ProductSortType.RECOMMEND, Double.toString(6812.345678), 8L).encode());
+
+        assertThat(price.priceValue()).isEqualByComparingTo("15000.50");
+        assertThat(price.getId()).isEqualTo(7L);
+        assertThat(score.scoreValue()).isEqualTo(6812.345678);
+        assertThat(score.getId()).isEqualTo(8L);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new ProductCursor(ProductSortType.UPDATED_AT_DESC, "2026-01-01T00:00", Long.MAX_VALUE).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> ProductCursor.decode("not a cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(new ProductCursor(ProductSortType.PRICE_ASC, "1", null).encode()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.handy.appserver.entity.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long START = 1_767_225_600_000L; // 2026-01-01T00:00:00Z
+
+    @Test
+    void idsIncreaseMonotonically() {
+        AtomicLong clock = new AtomicLong(START);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, clock::get);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 1000; i++) {
+            if (i % 10 == 0) {
+                clock.incrementAndGet();
+            }
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void clockRollbackKeepsIncreasingFromLastTimestamp() {
+        AtomicLong clock = new AtomicLong(START);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long beforeRollback = generator.nextId();
+        clock.addAndGet(-5_000);
+        long afterRollback = generator.nextId();
+
+        assertThat(afterRollback).isGreaterThan(beforeRollback);
+    }
+
+    @Test
+    void sequenceOverflowMovesToNextMillisecond() {
+        AtomicLong clock = new AtomicLong(START);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock::get);
+        int perMillisecond = 1 << SnowflakeIdGenerator.SEQUENCE_BITS;
+
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < perMillisecond * 3; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+
+        assertThat(ids).hasSize(perMillisecond * 3);
+        // 시계가 멈춘 동안 다 쓴 시퀀스만큼 타임스탬프가 앞서 나감
+        long timestampBits = previous >>> (SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS);
+        long firstTimestampBits = SnowflakeIdGenerator.minIdAt(START) >>> (SnowflakeIdGenerator.NODE_BITS + SnowflakeIdGenerator.SEQUENCE_BITS);
+        assertThat(timestampBits - firstTimestampBits).isEqualTo(2);
+    }
+
+    @Test
+    void nodeIdIsEncodedAndValidated() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, () -> START);
+
+        long id = generator.nextId();
+
+        assertThat((id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_NODE_ID)
+                .isEqualTo(SnowflakeIdGenerator.MAX_NODE_ID);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,143 @@
+package com.handy.appserver.repository;
+
+import com.handy.appserver.config.TestAwsConfig;
+import com.handy.appserver.dto.ProductListResponse;
+import com.handy.appserver.dto.ProductListRow;
+import com.handy.appserver.entity.product.Product;
+import com.handy.appserver.entity.product.ProductImage;
+import com.handy.appserver.entity.product.ProductShape;
+import com.handy.appserver.entity.product.ProductSize;
+import com.handy.appserver.entity.user.User;
+import com.handy.appserver.entity.user.UserRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 프로젝션(ProductListRow/ProductImageRow + fromRows)이 엔티티로 만든 응답과 같은지 확인
+ */
+@SpringBootTest
+@Import(TestAwsConfig.class)
+@TestPropertySource(properties = {
+    "spring.main.allow-bean-definition-overriding=true"
+})
+@Transactional
+class ProductListRowQueryTest {
+
+    private static final String BUCKET = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        User seller = userRepository.save(new User("seller@handy.com", "password", "판매자", UserRole.SELLER));
+
+        Product withImages = product(seller, "젤네일 A");
+        for (int i = 0; i < 3; i++) {
+            ProductImage image = ProductImage.builder()
+                    .imageUrl(BUCKET + "products/1/details/" + i + "_a.png")
+                    .imageOrder(i)
+                    .build();
+            if (i == 0) {
+                image.markThumbnailReady();
+            }
+            withImages.addDetailImage(image);
+        }
+        Product withoutImages = product(seller, "젤네일 B");
+        Product inactive = product(seller, "젤네일 C");
+        inactive.deactivate();
+
+        productIds = productRepository.saveAll(List.of(withImages, withoutImages, inactive)).stream()
+                .map(Product::getId)
+                .toList();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projectionMatchesEntityResponse() {
+        List<ProductListResponse> projected = ProductListResponse.fromRows(
+                productRepository.findListRowsByIds(productIds),
+                productRepository.findImageRowsByProductIds(productIds));
+        List<ProductListResponse> fromEntities = productRepository.findByIds(productIds).stream()
+                .map(ProductListResponse::new)
+                .toList();
+
+        assertThat(projected).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(fromEntities);
+    }
+
+    @Test
+    void detailImagesKeepInsertionOrderWithFirstImageFirst() {
+        ProductListResponse response = ProductListResponse.fromRows(
+                productRepository.findListRowsByIds(List.of(productIds.get(0))),
+                productRepository.findImageRowsByProductIds(List.of(productIds.get(0)))).get(0);
+
+        assertThat(response.getDetailImages()).extracting(ProductListResponse.ProductImageResponse::getImageUrl)
+                .containsExactly(
+                        BUCKET + "products/1/details/0_a.png",
+                        BUCKET + "products/1/details/1_a.png",
+                        BUCKET + "products/1/details/2_a.png");
+        assertThat(response.getDetailImages().get(0).getThumbnailUrl())
+                .isEqualTo(BUCKET + "products/1/details/thumbs/w480/0_a.jpg");
+        assertThat(response.getDetailImages().get(1).getThumbnailUrl()).isNull();
+    }
+
+    @Test
+    void fromRowsKeepsRowOrderAndGivesEmptyImagesToProductsWithout() {
+        List<ProductListRow> rows = productRepository.findListRowsByIds(productIds.subList(0, 2)).stream()
+                .sorted((a, b) -> b.getId().compareTo(a.getId()))
+                .toList();
+
+        List<ProductListResponse> responses = ProductListResponse.fromRows(rows,
+                productRepository.findImageRowsByProductIds(productIds.subList(0, 2)));
+
+        assertThat(responses).extracting(ProductListResponse::getId)
+                .containsExactly(productIds.get(1), productIds.get(0));
+        assertThat(responses.get(0).getDetailImages()).isEmpty();
+        assertThat(responses.get(1).getDetailImages()).hasSize(3);
+    }
+
+    @Test
+    void activeListRowsSkipInactiveProducts() {
+        List<Long> ids = productRepository.findActiveListRows(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id")))
+                .map(ProductListRow::getId)
+                .getContent();
+
+        assertThat(ids).containsExactly(productIds.get(0), productIds.get(1));
+    }
+
+    private static Product product(User seller, String name) {
+        return Product.builder()
+                .name(name)
+                .description(name + " 설명")
+                .mainImageUrl(BUCKET + "products/1/main/" + name.hashCode() + ".png")
+                .shape(ProductShape.ROUND)
+                .size(ProductSize.SHORT)
+                .price(BigDecimal.valueOf(15000))
+                .productionDays(3)
+                .seller(seller)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.handy.appserver.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzyIndexTest {
+
+    @Test
+    void exactSubstringHasZeroDistance() {
+        assertThat(distance("abc", "xxabcxx", 1)).isZero();
+        assertThat(distance("abc", "abc", 0)).isZero();
+    }
+
+    @Test
+    void singleEditInsideTextCountsAsOne() {
+        assertThat(distance("abc", "xxabxx", 1)).isEqualTo(1);   // 삭제
+        assertThat(distance("abc", "xaxcx", 1)).isEqualTo(1);    // 치환
+        assertThat(distance("abc", "xabzcx", 1)).isEqualTo(1);   // 삽입
+    }
+
+    @Test
+    void distanceIsCappedAtMaxPlusOne() {
+        assertThat(distance("abcd", "zzzz", 1)).isEqualTo(2);
+        assertThat(distance("abc", "", 5)).isEqualTo(3);
+        assertThat(distance("abc", "", 1)).isEqualTo(2);
+    }
+
+    @Test
+    void jamoTypoIsOneEdit() {
+        String pattern = KoreanText.decompose("젤네일");
+        String text = KoreanText.decompose("봄 잴네일 스티커");
+
+        assertThat(distance(pattern, text, 1)).isEqualTo(1);
+    }
+
+    @Test
+    void searchOrdersByDistanceThenScore() {
+        FuzzyIndex index = new FuzzyIndex();
+        index.put(1L, "젤네일 스티커", 1.0);
+        index.put(2L, "잴네일 스티커", 5.0);
+        index.put(3L, "젤네일 팁", 3.0);
+        index.put(4L, "손톱깎이", 9.0);
+
+        assertThat(index.search("젤네일").stream().map(FuzzyIndex.Match::id))
+                .containsExactly(3L, 1L, 2L);
+    }
+
+    private static int distance(String pattern, String text, int max) {
+        return FuzzyIndex.substringDistance(pattern.toCharArray(), text.toCharArray(), max);
+    }
+}
@@ -0,0 +1,33 @@
+package com.handy.appserver.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanTextTest {
+
+    @Test
+    void decomposeSplitsSyllablesIntoJamo() {
+        assertThat(KoreanText.decompose("네일")).isEqualTo("ㄴㅔㅇㅣㄹ");
+        assertThat(KoreanText.decompose("젤")).isEqualTo("ㅈㅔㄹ");
+    }
+
+    @Test
+    void decomposeKeepsCompoundFinalConsonant() {
+        assertThat(KoreanText.decompose("닭")).isEqualTo("ㄷㅏㄺ");
+    }
+
+    @Test
+    void decomposeKeepsNonHangulCharacters() {
+        assertThat(KoreanText.decompose("gel네일2")).isEqualTo("gelㄴㅔㅇㅣㄹ2");
+        assertThat(KoreanText.decompose("ㅈㄴ")).isEqualTo("ㅈㄴ");
+        assertThat(KoreanText.decompose("")).isEmpty();
+    }
+
+    @Test
+    void decomposeAfterNormalizeHandlesDecomposedInput() {
+        String nfd = java.text.Normalizer.normalize("젤 네일", java.text.Normalizer.Form.NFD);
+
+        assertThat(KoreanText.decompose(KoreanText.normalize(nfd))).isEqualTo("ㅈㅔㄹㄴㅔㅇㅣㄹ");
+    }
+}
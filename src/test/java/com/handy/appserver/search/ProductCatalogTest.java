@@ -0,0 +1,121 @@
+package com.handy.appserver.search;
+
+import com.handy.appserver.dto.ProductFilterRequest;
+import com.handy.appserver.entity.product.ProductSortType;
+import com.handy.appserver.event.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCatalogTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final Map<Long, ProductChangedEvent> products = new HashMap<>();
+    private ProductCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ProductCatalog(null, null);
+        for (long id = 1; id <= 40; id++) {
+            // 값이 겹치는 상품을 섞어 ID가 순서를 가르는 경우도 확인
+            apply(event(id, BigDecimal.valueOf(1000 * (id % 4)), BASE.plusMinutes(id / 3),
+                    BASE.plusMinutes(id % 5), (id % 6) / 2.0, id % 7 != 0));
+        }
+    }
+
+    @Test
+    void pagesFollowSortOrderForEverySort() {
+        for (ProductSortType sort : ProductSortType.values()) {
+            assertThat(pageThrough(sort, 7)).as(sort.name()).containsExactlyElementsOf(expected(sort));
+        }
+    }
+
+    @Test
+    void orderingFollowsProductChanges() {
+        pageThrough(ProductSortType.PRICE_DESC, 10);
+
+        apply(event(41L, BigDecimal.valueOf(99_999), BASE, BASE, 0, true));
+        apply(event(3L, BigDecimal.ZERO, BASE, BASE, 0, false));
+
+        assertThat(pageThrough(ProductSortType.PRICE_DESC, 10)).containsExactlyElementsOf(expected(ProductSortType.PRICE_DESC));
+        assertThat(pageThrough(ProductSortType.PRICE_DESC, 10).get(0)).isEqualTo(41L);
+    }
+
+    @Test
+    void orderingFollowsScoreUpdates() {
+        pageThrough(ProductSortType.RECOMMEND, 10);
+
+        catalog.updateScores(Map.of(1L, 10.0, 2L, -1.0));
+        products.put(1L, withScore(products.get(1L), 10.0));
+        products.put(2L, withScore(products.get(2L), -1.0));
+
+        List<Long> ids = pageThrough(ProductSortType.RECOMMEND, 10);
+        assertThat(ids).containsExactlyElementsOf(expected(ProductSortType.RECOMMEND));
+        assertThat(ids.get(0)).isEqualTo(1L);
+        assertThat(ids.get(ids.size() - 1)).isEqualTo(2L);
+    }
+
+    @Test
+    void pageBeyondTotalIsEmpty() {
+        ProductCatalog.FilterResult result = catalog.filter(new ProductFilterRequest(), ProductSortType.PRICE_ASC, 10, 10);
+
+        assertThat(result.ids()).isEmpty();
+        assertThat(result.total()).isEqualTo(expected(ProductSortType.PRICE_ASC).size());
+    }
+
+    private List<Long> pageThrough(ProductSortType sort, int size) {
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            ProductCatalog.FilterResult result = catalog.filter(new ProductFilterRequest(), sort, page, size);
+            ids.addAll(result.ids());
+            if (result.ids().size() < size) {
+                return ids;
+            }
+        }
+    }
+
+    // 정렬 기준을 그대로 옮긴 비교 (값이 같으면 ID, PRICE_ASC만 오름차순)
+    private List<Long> expected(ProductSortType sort) {
+        Comparator<ProductChangedEvent> comparator = switch (sort) {
+            case UPDATED_AT_DESC -> Comparator.comparing(ProductChangedEvent::getUpdatedAt);
+            case PRICE_ASC, PRICE_DESC -> Comparator.comparing(ProductChangedEvent::getPrice);
+            case RECOMMEND -> Comparator.comparingDouble(ProductChangedEvent::getRecommendScore);
+            default -> Comparator.comparing(ProductChangedEvent::getCreatedAt);
+        };
+        comparator = comparator.thenComparing(ProductChangedEvent::getProductId);
+        if (sort != ProductSortType.PRICE_ASC) {
+            comparator = comparator.reversed();
+        }
+        return products.values().stream()
+                .filter(ProductChangedEvent::isActive)
+                .sorted(comparator)
+                .map(ProductChangedEvent::getProductId)
+                .toList();
+    }
+
+    private void apply(ProductChangedEvent event) {
+        products.put(event.getProductId(), event);
+        catalog.onProductChanged(event);
+    }
+
+    private static ProductChangedEvent withScore(ProductChangedEvent event, double score) {
+        return event(event.getProductId(), event.getPrice(), event.getCreatedAt(), event.getUpdatedAt(), score,
+                event.isActive());
+    }
+
+    private static ProductChangedEvent event(Long id, BigDecimal price, LocalDateTime createdAt,
+                                             LocalDateTime updatedAt, double score, boolean active) {
+        return new ProductChangedEvent(ProductChangedEvent.ChangeType.UPDATED, id, "젤네일 " + id, "", null, price,
+                null, null, 7, false, active, 1L, List.of(), createdAt, updatedAt, score);
+    }
+}
@@ -0,0 +1,99 @@
+package com.handy.appserver.search;
+
+import com.handy.appserver.dto.ProductCursor;
+import com.handy.appserver.entity.product.ProductSortType;
+import com.handy.appserver.event.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(null, null);
+        for (long id = 1; id <= 25; id++) {
+            // 등록 시각/가격이 겹치는 상품을 섞어 ID가 순서를 가르는 경우도 확인
+            String name = id % 3 == 0 ? "봄 젤네일 " + id : "젤네일 " + id;
+            index.apply(event(id, name, BigDecimal.valueOf(1000 * (id % 4)), BASE.plusMinutes(id / 2), true));
+        }
+        index.apply(event(26L, "손톱깎이", BigDecimal.ONE, BASE, true));
+    }
+
+    @Test
+    void pagingVisitsEveryMatchOnceForEverySort() {
+        for (ProductSortType sort : ProductSortType.values()) {
+            List<Long> all = index.search("젤네일", doc -> true, sort);
+            List<Long> paged = pageThrough(sort, 7);
+
+            assertThat(all).hasSize(25);
+            assertThat(paged).as(sort.name()).containsExactlyElementsOf(all);
+        }
+    }
+
+    @Test
+    void pagingContinuesAfterLastProductIsDeactivated() {
+        ProductSearchIndex.SearchPage first = index.searchAfter("젤네일", ProductSearchIndex.IndexedProduct::isActive,
+                ProductSortType.CREATED_AT_DESC, null, 10);
+        Long last = first.ids().get(first.ids().size() - 1);
+        List<Long> expected = index.search("젤네일", doc -> true, ProductSortType.CREATED_AT_DESC).subList(10, 20);
+
+        index.apply(event(last, "젤네일 " + last, BigDecimal.ZERO, BASE.plusMinutes(last / 2), false));
+        ProductSearchIndex.SearchPage second = index.searchAfter("젤네일", ProductSearchIndex.IndexedProduct::isActive,
+                ProductSortType.CREATED_AT_DESC, first.next(), 10);
+
+        assertThat(second.ids()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void pagingUsesCursorValuesWhenLastProductMoves() {
+        ProductSearchIndex.SearchPage first = index.searchAfter("젤네일", doc -> true,
+                ProductSortType.UPDATED_AT_DESC, null, 10);
+        List<Long> expected = index.search("젤네일", doc -> true, ProductSortType.UPDATED_AT_DESC).subList(10, 20);
+        Long last = first.ids().get(first.ids().size() - 1);
+
+        // 마지막 상품이 수정되어 맨 앞으로 이동해도 다음 페이지는 커서 위치부터 이어짐
+        index.apply(event(last, "젤네일 " + last, BigDecimal.ZERO, BASE.plusDays(1), true));
+        ProductSearchIndex.SearchPage second = index.searchAfter("젤네일", doc -> true,
+                ProductSortType.UPDATED_AT_DESC, first.next(), 10);
+
+        assertThat(second.ids()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        ProductSearchIndex.SearchPage page = index.searchAfter("젤네일", doc -> true,
+                ProductSortType.PRICE_ASC, null, 25);
+
+        assertThat(page.ids()).hasSize(25);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.next()).isNull();
+    }
+
+    private List<Long> pageThrough(ProductSortType sort, int size) {
+        List<Long> ids = new ArrayList<>();
+        ProductCursor cursor = null;
+        do {
+            ProductSearchIndex.SearchPage page = index.searchAfter("젤네일", doc -> true, sort,
+                    cursor != null ? ProductCursor.decode(cursor.encode()) : null, size);
+            ids.addAll(page.ids());
+            cursor = page.next();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private static ProductChangedEvent event(Long id, String name, BigDecimal price, LocalDateTime time, boolean active) {
+        return new ProductChangedEvent(ProductChangedEvent.ChangeType.UPDATED, id, name, "", null, price,
+                null, null, 7, false, active, 1L, List.of(), time, time, 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.handy.appserver.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.handy.appserver.dto.DetailImageRequest;
+import com.handy.appserver.entity.product.ProductShape;
+import com.handy.appserver.entity.product.ProductSize;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductImportReaderTest {
+
+    private static final String HEADER = "name,description,shape,size,price,productionDays,mainImageUrl,categoryIds,detailImageUrls\n";
+
+    @Test
+    void csvReadsQuotedCommasEscapedQuotesAndLineBreaks() throws IOException {
+        List<ProductImportReader.Row> rows = readCsv(HEADER
+                + "\"Nail, pink\",\"say \"\"hi\"\"\nsecond line\",ROUND,SHORT,15000,3,https://a/main.png,1|2,https://a/1.png|https://a/2.png\n");
+
+        assertThat(rows).hasSize(1);
+        ProductImportReader.Row row = rows.get(0);
+        assertThat(row.error()).isNull();
+        assertThat(row.number()).isEqualTo(1);
+        assertThat(row.request().getName()).isEqualTo("Nail, pink");
+        assertThat(row.request().getDescription()).isEqualTo("say \"hi\"\nsecond line");
+        assertThat(row.request().getShape()).isEqualTo(ProductShape.ROUND);
+        assertThat(row.request().getSize()).isEqualTo(ProductSize.SHORT);
+        assertThat(row.request().getPrice()).isEqualByComparingTo(new BigDecimal("15000"));
+        assertThat(row.request().getProductionDays()).isEqualTo(3);
+        assertThat(row.request().getCategoryIds()).containsExactly(1L, 2L);
+        assertThat(row.request().getDetailImages()).extracting(DetailImageRequest::getImageUrl)
+                .containsExactly("https://a/1.png", "https://a/2.png");
+    }
+
+    @Test
+    void csvReportsBadRowsAndKeepsReading() throws IOException {
+        List<ProductImportReader.Row> rows = readCsv(HEADER
+                + "a,,HEART,SHORT,100,1,https://a/a.png,,\n"
+                + "\n"
+                + "b,,ROUND,SHORT,abc,1,https://a/b.png,,\n"
+                + "c,,ROUND,LONG,100,1,https://a/c.png,x,\n"
+                + "d,,OVAL,MEDIUM,100,1,https://a/d.png,,\n");
+
+        assertThat(rows).extracting(ProductImportReader.Row::number).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(rows.get(0).error()).isEqualTo("shape 값이 올바르지 않습니다: HEART");
+        assertThat(rows.get(1).error()).isEqualTo("price 값이 올바르지 않습니다: abc");
+        assertThat(rows.get(2).error()).isEqualTo("categoryIds 값이 올바르지 않습니다: x");
+        assertThat(rows.get(3).error()).isNull();
+        assertThat(rows.get(3).request().getName()).isEqualTo("d");
+    }
+
+    @Test
+    void csvHeaderIgnoresBomAndCase() throws IOException {
+        List<ProductImportReader.Row> rows = readCsv("\uFEFFNAME,Price\nnail,100\n");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).request().getName()).isEqualTo("nail");
+        assertThat(rows.get(0).request().getPrice()).isEqualByComparingTo(new BigDecimal("100"));
+    }
+
+    @Test
+    void csvWithoutNameColumnIsRejected() {
+        assertThatThrownBy(() -> readCsv("title,price\nnail,100\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ndjsonSkipsBlankLinesAndReportsMalformedJson() throws IOException {
+        List<ProductImportReader.Row> rows = read(ProductImportService.Format.NDJSON,
+                "{\"name\":\"a\",\"price\":100}\n\n{\"name\":\n{\"name\":\"c\"}\n");
+
+        assertThat(rows).extracting(ProductImportReader.Row::number).containsExactly(1L, 2L, 3L);
+        assertThat(rows.get(0).request().getName()).isEqualTo("a");
+        assertThat(rows.get(1).request()).isNull();
+        assertThat(rows.get(1).error()).startsWith("JSON 형식이 올바르지 않습니다");
+        assertThat(rows.get(2).request().getName()).isEqualTo("c");
+    }
+
+    private static List<ProductImportReader.Row> readCsv(String input) throws IOException {
+        return read(ProductImportService.Format.CSV, input);
+    }
+
+    private static List<ProductImportReader.Row> read(ProductImportService.Format format, String input) throws IOException {
+        ProductImportReader reader = new ProductImportReader(
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format, new ObjectMapper());
+        List<ProductImportReader.Row> rows = new ArrayList<>();
+        ProductImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,52 @@
+package com.handy.appserver.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThumbnailsTest {
+
+    private static final String BUCKET = "https://handy-images-bucket.s3.ap-northeast-2.amazonaws.com/";
+
+    @Test
+    void keyForPutsThumbnailNextToOriginal() {
+        assertThat(Thumbnails.keyFor("products/10/main/123_nail.png", 480))
+                .isEqualTo("products/10/main/thumbs/w480/123_nail.jpg");
+        assertThat(Thumbnails.keyFor("snaps/3/77_photo", 480))
+                .isEqualTo("snaps/3/thumbs/w480/77_photo.jpg");
+        assertThat(Thumbnails.keyFor("users/1/profile/a.b.jpeg", 480))
+                .isEqualTo("users/1/profile/thumbs/w480/a.b.jpg");
+    }
+
+    @Test
+    void onlyFinalizedImagesHaveThumbnails() {
+        assertThat(Thumbnails.hasThumbnails("products/10/main/1_nail.png")).isTrue();
+        assertThat(Thumbnails.hasThumbnails("temp/5/1_nail.png")).isFalse();
+        assertThat(Thumbnails.hasThumbnails("products/10/main/thumbs/w480/1_nail.jpg")).isFalse();
+        assertThat(Thumbnails.hasThumbnails(null)).isFalse();
+    }
+
+    @Test
+    void keysForListsEveryWidthForDeletion() {
+        assertThat(Thumbnails.keysFor("products/10/details/1_a.png"))
+                .containsExactly("products/10/details/thumbs/w480/1_a.jpg");
+        assertThat(Thumbnails.keysFor("temp/5/1_a.png")).isEmpty();
+    }
+
+    @Test
+    void urlForMapsReadyImagesOnly() {
+        String imageUrl = BUCKET + "products/10/main/123_nail.png";
+
+        assertThat(Thumbnails.urlFor(imageUrl, true, Thumbnails.LIST_WIDTH))
+                .isEqualTo(BUCKET + "products/10/main/thumbs/w480/123_nail.jpg");
+        assertThat(Thumbnails.urlFor(imageUrl, false, Thumbnails.LIST_WIDTH)).isNull();
+    }
+
+    @Test
+    void urlForReturnsNullWithoutThumbnail() {
+        assertThat(Thumbnails.urlFor(BUCKET + "temp/5/1_nail.png", true, Thumbnails.LIST_WIDTH)).isNull();
+        assertThat(Thumbnails.urlFor(null, true, Thumbnails.LIST_WIDTH)).isNull();
+        assertThat(Thumbnails.urlFor(" ", true, Thumbnails.LIST_WIDTH)).isNull();
+        assertThat(Thumbnails.urlFor("not a url", true, Thumbnails.LIST_WIDTH)).isNull();
+    }
+}